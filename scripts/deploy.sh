@@ -21,5 +21,15 @@ fi
 
 DEPLOY_JAR=$DEPLOY_PATH$JAR_NAME
 
+# Snowflake 노드 ID 는 인스턴스마다 달라야 하므로 인스턴스에 둔 파일에서 읽음 (없으면 애플리케이션이 뜨지 않음)
+NODE_ID_FILE=/home/ubuntu/photory/snowflake-node-id
+if [ -f $NODE_ID_FILE ]
+then
+  SNOWFLAKE_NODE_ID=$(cat $NODE_ID_FILE)
+  export SNOWFLAKE_NODE_ID
+else
+  echo "> $NODE_ID_FILE 이 없어 Snowflake 노드 ID 를 지정하지 못했습니다." >> /home/ubuntu/photory/deploy.log
+fi
+
 echo "> DEPLOY_JAR 배포"    >> /home/ubuntu/photory/deploy.log
 nohup java -jar $DEPLOY_JAR >> /home/ubuntu/photory/deploy.log 2>/home/ubuntu/photory/deploy_err.log &
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.photory.benchmark;
+
+import com.photory.common.util.JwtUtil;
+import com.photory.common.util.RedisUtil;
+import com.photory.config.security.SecurityUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 번의 토큰 검증 비용 비교 (./gradlew jmh, Redis 확인은 항상 로그인 상태를 반환하는 RedisUtil 로 대체)
+ * jwtUtil 은 JwtRequestFilter 가 호출하는 JwtUtil 의 extractAllClaims + validateToken 을 그대로 측정
+ * parseThreeTimes 는 기존 JwtUtil 의 getEmail, validateToken (getEmail, isTokenExpired) 처럼 파서와 키를 새로 만들어 세 번 파싱함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET_KEY = "photory-benchmark-secret-key-for-hmac-sha-256-signing";
+    private static final String EMAIL = "user@gmail.com";
+
+    private JwtUtil jwtUtil;
+    private RedisUtil redisUtil;
+    private SecurityUser securityUser;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        redisUtil = new RedisUtil(null) {
+            @Override
+            public boolean existKey(String key) {
+                return true;
+            }
+        };
+
+        jwtUtil = new JwtUtil(redisUtil);
+        Field secretKey = JwtUtil.class.getDeclaredField("SECRET_KEY");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, SECRET_KEY);
+        jwtUtil.init();
+
+        securityUser = new SecurityUser(1L, EMAIL, "ROLE_USER");
+        token = jwtUtil.doGenerateToken(EMAIL, 1L, "ROLE_USER", TimeUnit.DAYS.toSeconds(1));
+    }
+
+    @Benchmark
+    public boolean jwtUtil() {
+        Claims claims = jwtUtil.extractAllClaims(token);
+        return jwtUtil.getEmail(claims) != null && jwtUtil.validateToken(claims, securityUser);
+    }
+
+    @Benchmark
+    public boolean parseThreeTimes() {
+        String email = legacyExtractAllClaims(token).get("email", String.class);
+        return email != null && legacyValidateToken(token);
+    }
+
+    // 기존 JwtUtil.validateToken (getEmail, isTokenExpired 가 각각 토큰을 다시 파싱)
+    private boolean legacyValidateToken(String token) {
+        String username = legacyExtractAllClaims(token).get("email", String.class);
+        boolean existKey = redisUtil.existKey(username);
+        Date expiration = legacyExtractAllClaims(token).getExpiration();
+        return username.equals(securityUser.getUsername()) && !expiration.before(new Date()) && existKey;
+    }
+
+    // 기존 JwtUtil.extractAllClaims (호출마다 키와 파서를 새로 만듦)
+    private static Claims legacyExtractAllClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(signingKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key signingKey() {
+        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    }
+}
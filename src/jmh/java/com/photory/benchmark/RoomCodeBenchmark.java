@@ -0,0 +1,134 @@
+package com.photory.benchmark;
+
+import com.photory.PhotoryApplication;
+import com.photory.domain.room.RoomCodeCipher;
+import com.photory.domain.room.RoomCodeSequence;
+import com.photory.service.room.RoomCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 코드 발급 비용 비교 (./gradlew jmh)
+ * 기존 방식은 후보 코드마다 모든 방을 읽어서 비교하므로 방 수에 비례하고, 순열 방식은 방 수와 무관하게 일정해야 함
+ * generate 는 방을 만들 때 드는 전체 비용 (순번 블록 예약 + existsByCode + 순열)
+ * 애플리케이션 설정의 MySQL 계정으로 벤치마크 전용 스키마 (-Dbenchmark.datasource.url) 를 새로 만들고 roomCount 개의 방을 채운 뒤 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomCodeBenchmark {
+
+    @State(Scope.Thread)
+    public static class CipherState {
+
+        // 지금까지 만든 방 수 (= 다음 순번)
+        @Param({"1000", "1000000", "100000000"})
+        long roomCount;
+
+        RoomCodeCipher cipher;
+        long sequence;
+
+        @Setup
+        public void setUp() {
+            cipher = new RoomCodeCipher(20220101L);
+            sequence = roomCount;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ScanState {
+
+        @Param({"1000", "100000", "1000000"})
+        int roomCount;
+
+        List<String> codes;
+        long sequence;
+
+        @Setup
+        public void setUp() {
+            RoomCodeCipher cipher = new RoomCodeCipher(1L);
+            codes = new ArrayList<>(roomCount);
+            for (int i = 0; i < roomCount; i++) {
+                codes.add(cipher.encode(i));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GeneratorState {
+
+        private static final String DEFAULT_DATASOURCE_URL =
+                "jdbc:mysql://localhost:3306/photory_benchmark?createDatabaseIfNotExist=true&rewriteBatchedStatements=true";
+        private static final int INSERT_BATCH_SIZE = 10_000;
+
+        // 이미 만들어진 방 수 (room.code 유니크 인덱스 크기)
+        @Param({"1000", "100000", "1000000"})
+        int roomCount;
+
+        ConfigurableApplicationContext context;
+        RoomCodeGenerator roomCodeGenerator;
+
+        @Setup
+        public void setUp() {
+            SpringApplication application = new SpringApplication(PhotoryApplication.class);
+            application.setWebApplicationType(WebApplicationType.NONE);
+            // 운영 스키마와 순번 행을 건드리지 않도록 벤치마크 전용 스키마를 만들고 끝나면 지움
+            context = application.run(
+                    "--spring.datasource.url=" + System.getProperty("benchmark.datasource.url", DEFAULT_DATASOURCE_URL),
+                    "--spring.jpa.hibernate.ddl-auto=create-drop",
+                    "--scheduler.image-deletion.initial-delay=3600000");
+
+            long key = context.getEnvironment().getProperty("room.code.key", Long.class, 20220101L);
+            seedRooms(context.getBean(JdbcTemplate.class), new RoomCodeCipher(key));
+            roomCodeGenerator = context.getBean(RoomCodeGenerator.class);
+        }
+
+        // 순번 0 부터 roomCount - 1 까지 발급된 상태로 방과 순번 행을 채움
+        private void seedRooms(JdbcTemplate jdbcTemplate, RoomCodeCipher cipher) {
+            for (int start = 0; start < roomCount; start += INSERT_BATCH_SIZE) {
+                List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+                for (long sequence = start; sequence < Math.min(start + INSERT_BATCH_SIZE, roomCount); sequence++) {
+                    rows.add(new Object[]{sequence + 1, cipher.encode(sequence)});
+                }
+                jdbcTemplate.batchUpdate("insert into room (id, code, title, password, participants_count, status, " +
+                        "feeds_count, feeds_version, created_at, updated_at) " +
+                        "values (?, ?, 'room', 'password', 1, true, 0, 0, now(), now())", rows);
+            }
+            jdbcTemplate.update("insert into room_code_sequence (id, next_value) values (?, ?)", RoomCodeSequence.ID, roomCount);
+        }
+
+        @TearDown
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public String generate(GeneratorState state) {
+        return state.roomCodeGenerator.generate();
+    }
+
+    // 순열만의 비용
+    @Benchmark
+    public String cipher(CipherState state) {
+        return state.cipher.encode(state.sequence++ % RoomCodeCipher.CODE_SPACE);
+    }
+
+    // 기존 checkRoomCode 와 같은 전체 비교 (DB 에서 모든 방을 읽어오는 비용은 제외)
+    @Benchmark
+    public boolean scanAllRooms(ScanState state) {
+        String candidate = Long.toString(state.sequence++, 36);
+        for (String code : state.codes) {
+            if (candidate.equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -67,6 +67,7 @@ public enum ErrorCode {
 
     // 503 Service UnAvailable
     SERVICE_UNAVAILABLE_EXCEPTION(SERVICE_UNAVAILABLE, "현재 점검 중입니다.\n잠시 후 다시 시도해주세요!"),
+    SERVICE_UNAVAILABLE_PASSWORD_HASH_EXCEPTION(SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리가 지연되고 있습니다.\n잠시 후 다시 시도해주세요!"),
     ;
 
     private final ErrorStatusCode statusCode;
@@ -0,0 +1,14 @@
+package com.photory.common.exception.model;
+
+import com.photory.common.exception.ErrorCode;
+
+public class ServiceUnavailableException extends PhotoryException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, ErrorCode.SERVICE_UNAVAILABLE_EXCEPTION);
+    }
+
+    public ServiceUnavailableException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+}
@@ -0,0 +1,194 @@
+package com.photory.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ImageResizeUtil {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    // 픽셀 수가 이보다 큰 이미지는 메모리에 풀지 않음 (약 200MB)
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    /**
+     * 이미지 파일을 읽어서 EXIF 방향대로 돌린 이미지를 반환 (읽을 수 없는 형식이거나 너무 크면 null)
+     */
+    public static BufferedImage read(byte[] imageBytes) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(imageBytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return orient(reader.read(0), readExifOrientation(imageBytes));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 지정한 너비 이하로 비율을 유지하며 줄인 JPEG 을 반환 (원본이 더 작으면 크기는 그대로)
+     */
+    public static byte[] resizeToJpeg(BufferedImage image, int maxWidth) throws IOException {
+        int width = Math.min(maxWidth, image.getWidth());
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+
+        // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로 맞춤
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+        }
+        current = draw(current, width, height);
+
+        return writeJpeg(current);
+    }
+
+    // 알파 채널은 흰 배경으로 합성하여 JPEG 로 저장할 수 있는 RGB 이미지로 그림
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 휴대폰 사진은 픽셀을 돌리지 않고 EXIF 방향 값만 기록하므로 직접 돌려야 화면에 보이는 방향과 같아짐
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+
+        AffineTransform transform;
+        switch (orientation) {
+            case 2: transform = new AffineTransform(-1, 0, 0, 1, w, 0); break;  // 좌우 반전
+            case 3: transform = new AffineTransform(-1, 0, 0, -1, w, h); break; // 180도
+            case 4: transform = new AffineTransform(1, 0, 0, -1, 0, h); break;  // 상하 반전
+            case 5: transform = new AffineTransform(0, 1, 1, 0, 0, 0); break;   // 전치
+            case 6: transform = new AffineTransform(0, 1, -1, 0, h, 0); break;  // 시계 방향 90도
+            case 7: transform = new AffineTransform(0, -1, -1, 0, h, w); break; // 반대 전치
+            case 8: transform = new AffineTransform(0, -1, 1, 0, 0, w); break;  // 반시계 방향 90도
+            default: return image;
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 첫 번째 IFD 에서 방향 값을 읽음 (없으면 1)
+    private static int readExifOrientation(byte[] bytes) {
+        if (bytes.length < 4 || (bytes[0] & 0xFF) != 0xFF || (bytes[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+
+        int offset = 2;
+        while (offset + 4 <= bytes.length && (bytes[offset] & 0xFF) == 0xFF) {
+            int marker = bytes[offset + 1] & 0xFF;
+            int length = readUnsignedShort(bytes, offset + 2, false);
+            if (marker == 0xDA || length < 2) {
+                break;
+            }
+
+            int segment = offset + 4;
+            if (marker == 0xE1 && segment + 6 <= bytes.length
+                    && "Exif".equals(new String(bytes, segment, 4, StandardCharsets.US_ASCII))) {
+                return readTiffOrientation(bytes, segment + 6, Math.min(bytes.length, offset + 2 + length));
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] bytes, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian = bytes[tiff] == 'I' && bytes[tiff + 1] == 'I';
+
+        int ifd = tiff + readInt(bytes, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > end) {
+            return 1;
+        }
+
+        int entries = readUnsignedShort(bytes, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (readUnsignedShort(bytes, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(bytes, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readUnsignedShort(bytes, offset, littleEndian);
+        int low = readUnsignedShort(bytes, offset + 2, littleEndian);
+        return littleEndian ? (low << 16) | high : (high << 16) | low;
+    }
+}
@@ -3,6 +3,7 @@ package com.photory.common.util;
 import com.photory.domain.user.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,6 +13,7 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
@@ -28,21 +30,36 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
+    // 서명 키와 파서는 불변이고 thread-safe 하므로 한 번만 만들어서 재사용
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = getSigningKey(SECRET_KEY);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private Key getSigningKey(String secretKey) {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    /**
+     * 서명과 만료 시각을 검증하고 claims 를 반환 (요청마다 한 번만 호출해서 결과를 재사용)
+     */
     public Claims extractAllClaims(String token) throws ExpiredJwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey(SECRET_KEY))
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public String getEmail(String token) {
-        return extractAllClaims(token).get("email", String.class);
+        return getEmail(extractAllClaims(token));
+    }
+
+    public String getEmail(Claims claims) {
+        return claims.get("email", String.class);
     }
 
     public Boolean isTokenExpired(String token) {
@@ -50,29 +67,43 @@ public class JwtUtil {
         return expiration.before(new Date());
     }
 
+    public Long getUserId(Claims claims) {
+        return claims.get("userId", Long.class);
+    }
+
+    public String getRole(Claims claims) {
+        return claims.get("role", String.class);
+    }
+
     public String generateToken(User user) {
-        return doGenerateToken(user.getEmail(), TOKEN_VALIDATION_SECOND);
+        return doGenerateToken(user.getEmail(), user.getId(), user.getRole().name(), TOKEN_VALIDATION_SECOND);
     }
 
-    public String doGenerateToken(String email, long expireTime) {
+    // 요청마다 유저를 조회하지 않도록 유저 id 와 권한을 함께 담음
+    public String doGenerateToken(String email, Long userId, String role, long expireTime) {
 
         Claims claims = Jwts.claims();
         claims.put("email", email);
+        claims.put("userId", userId);
+        claims.put("role", role);
 
         String jwt = Jwts.builder()
                 .setClaims(claims)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expireTime * 1000))
-                .signWith(getSigningKey(SECRET_KEY), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
         return jwt;
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getEmail(token);
+    /**
+     * 이미 검증해서 얻은 claims 로 토큰 주인과 로그인 상태만 확인 (토큰을 다시 파싱하지 않음)
+     */
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        final String username = getEmail(claims);
         final boolean existKey = redisUtil.existKey(username);
 
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token) && existKey);
+        return (username.equals(userDetails.getUsername()) && claims.getExpiration().after(new Date()) && existKey);
     }
 }
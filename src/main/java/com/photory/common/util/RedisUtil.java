@@ -1,11 +1,17 @@
 package com.photory.common.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +35,27 @@ public class RedisUtil {
         valueOperations.set(key, value, expireDuration);
     }
 
+    // 키 순서대로 값을 반환 (없는 키는 null)
+    public List<String> multiGetData(List<String> keys) {
+        ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
+        return valueOperations.multiGet(keys);
+    }
+
+    // 여러 키를 만료 시간과 함께 한 번의 파이프라인으로 저장
+    public void multiSetDataExpire(Map<String, String> values, long duration) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringRedisConnection = (StringRedisConnection) connection;
+            values.forEach((key, value) -> stringRedisConnection.setEx(key, duration, value));
+            return null;
+        });
+    }
+
+    // 키가 없을 때만 만료 시간과 함께 저장 (분산 락 획득)
+    public boolean setDataIfAbsentExpire(String key, String value, long duration) {
+        ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
+        return Boolean.TRUE.equals(valueOperations.setIfAbsent(key, value, Duration.ofSeconds(duration)));
+    }
+
     public void deleteData(String key) {
         stringRedisTemplate.delete(key);
     }
@@ -36,4 +63,23 @@ public class RedisUtil {
     public boolean existKey(String key) {
         return stringRedisTemplate.hasKey(key);
     }
+
+    public String getHashData(String key, String hashKey) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        return hashOperations.get(key, hashKey);
+    }
+
+    public void setHashDataExpire(String key, String hashKey, String value, long duration) {
+        HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+        hashOperations.put(key, hashKey, value);
+        stringRedisTemplate.expire(key, Duration.ofSeconds(duration));
+    }
+
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return stringRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
 }
@@ -1,21 +1,71 @@
 package com.photory.config;
 
 import com.photory.config.resolver.UserEmailResolver;
+import com.photory.config.resolver.UserIdResolver;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.WebContentInterceptor;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    public static final String STREAMING_UPLOAD_PATH = "/v1/feed/stream";
+
     private final UserEmailResolver userEmailResolver;
+    private final UserIdResolver userIdResolver;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(userEmailResolver);
+        resolvers.add(userIdResolver);
+    }
+
+    /**
+     * ETag 로 조건부 조회를 하는 피드, 방 조회 응답은 클라이언트가 저장해 두고 매번 재검증하도록 설정
+     * (Spring Security 기본값인 no-store 를 대신함)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        WebContentInterceptor webContentInterceptor = new WebContentInterceptor();
+        webContentInterceptor.addCacheMapping(CacheControl.noCache().cachePrivate(), "/v1/feed", "/v1/feed/*", "/v1/room", "/v1/room/*");
+        registry.addInterceptor(webContentInterceptor);
+    }
+
+    /**
+     * 스트리밍 업로드 요청은 서블릿 컨테이너가 multipart 를 미리 파싱(메모리/임시파일 저장)하지 않도록 제외
+     */
+    @Bean(name = DispatcherServlet.MULTIPART_RESOLVER_BEAN_NAME)
+    public MultipartResolver multipartResolver(MultipartProperties multipartProperties) {
+        StandardServletMultipartResolver multipartResolver = new StandardServletMultipartResolver() {
+            @Override
+            public boolean isMultipart(HttpServletRequest request) {
+                return !request.getRequestURI().endsWith(STREAMING_UPLOAD_PATH) && super.isMultipart(request);
+            }
+        };
+        multipartResolver.setResolveLazily(multipartProperties.isResolveLazily());
+        return multipartResolver;
+    }
+
+    @Bean
+    public ServletFileUpload servletFileUpload(MultipartProperties multipartProperties) {
+        ServletFileUpload servletFileUpload = new ServletFileUpload();
+        servletFileUpload.setFileSizeMax(multipartProperties.getMaxFileSize().toBytes());
+        servletFileUpload.setSizeMax(multipartProperties.getMaxRequestSize().toBytes());
+        servletFileUpload.setHeaderEncoding("UTF-8");
+        return servletFileUpload;
     }
 }
@@ -0,0 +1,78 @@
+package com.photory.config.executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${executor.s3-upload.pool-size:16}")
+    private int s3UploadPoolSize;
+
+    @Value("${executor.s3-upload.queue-capacity:64}")
+    private int s3UploadQueueCapacity;
+
+    @Value("${executor.image-variant.pool-size:2}")
+    private int imageVariantPoolSize;
+
+    @Value("${executor.image-variant.queue-capacity:256}")
+    private int imageVariantQueueCapacity;
+
+    @Value("${executor.password-hash.pool-size:4}")
+    private int passwordHashPoolSize;
+
+    @Value("${executor.password-hash.queue-capacity:32}")
+    private int passwordHashQueueCapacity;
+
+    /**
+     * S3 업로드 전용 스레드 풀
+     * 큐가 가득 차면 요청 스레드에서 직접 업로드하여 자연스럽게 속도를 늦춤
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3UploadPoolSize);
+        executor.setMaxPoolSize(s3UploadPoolSize);
+        executor.setQueueCapacity(s3UploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 썸네일, 미리보기 이미지 생성 전용 스레드 풀
+     * 원본 이미지를 메모리에 풀어서 처리하므로 스레드 수를 작게 유지하고, 큐가 가득 차면 생성을 건너뜀 (원본으로 대체)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageVariantPoolSize);
+        executor.setMaxPoolSize(imageVariantPoolSize);
+        executor.setQueueCapacity(imageVariantQueueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시, 검증 (BCrypt) 전용 스레드 풀
+     * 로그인이 몰려도 요청 스레드가 모두 BCrypt 에 묶이지 않도록 동시에 계산하는 수를 제한하고, 큐가 가득 차면 바로 거절
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashPoolSize);
+        executor.setMaxPoolSize(passwordHashPoolSize);
+        executor.setQueueCapacity(passwordHashQueueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.photory.config.jpa;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Value("${jpa.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * 같은 엔티티의 insert/update 를 모아 JDBC 배치로 전송
+     * application 설정에 값이 있으면 그 값을 우선
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize));
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+        };
+    }
+
+    /**
+     * MySQL 드라이버가 배치 insert 를 multi-row insert 한 번으로 보내도록 설정
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    ((HikariDataSource) bean).addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
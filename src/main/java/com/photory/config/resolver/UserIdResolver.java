@@ -0,0 +1,32 @@
+package com.photory.config.resolver;
+
+import com.photory.common.exception.model.UnAuthorizedException;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 토큰에서 꺼낸 유저 id (유저를 이메일로 다시 조회하지 않고 id 로 처리할 때 사용)
+ */
+@Component
+public class UserIdResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(UserId.class) && Long.class.equals(parameter.getParameterType());
+    }
+
+    @NotNull
+    @Override
+    public Object resolveArgument(@NotNull MethodParameter parameter, ModelAndViewContainer mavContainer, @NotNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object object = webRequest.getAttribute("userId", 0);
+        if (object == null) {
+            throw new UnAuthorizedException("토큰이 없습니다.");
+        }
+        return object;
+    }
+}
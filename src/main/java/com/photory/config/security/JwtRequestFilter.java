@@ -2,6 +2,7 @@ package com.photory.config.security;
 
 import com.photory.common.exception.model.UnAuthorizedException;
 import com.photory.common.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,6 +16,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -22,32 +24,62 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final CustomUserDetailsService customUserDetailsService;
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String email = null;
+        // 인증까지 끝난 유저만 요청 속성으로 넘김 (검증에 실패한 토큰의 유저 id 를 @UserId 로 받지 않도록)
+        SecurityUser authenticatedUser = null;
         String jwt = request.getHeader("Authorization");
 
         try {
             if (jwt != null) {
                 jwt = jwt.replace("Bearer ", "");
-                email = jwtUtil.getEmail(jwt);
             }
-            if (email != null) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
 
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            // 최근에 검증한 토큰이면 서명 검증, Redis 확인 없이 인증
+            Optional<SecurityUser> verified = jwt == null ? Optional.empty() : verifiedTokenCache.get(jwt);
+            if (verified.isPresent()) {
+                authenticate(request, verified.get());
+                authenticatedUser = verified.get();
+            } else if (jwt != null) {
+                // 토큰 서명 검증은 요청마다 한 번만 하고 얻은 claims 를 이후 확인에 그대로 사용
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                String email = jwtUtil.getEmail(claims);
+
+                if (email != null) {
+                    SecurityUser securityUser = loadSecurityUser(claims, email);
+
+                    if (jwtUtil.validateToken(claims, securityUser)) {
+                        authenticate(request, securityUser);
+                        authenticatedUser = securityUser;
+                        verifiedTokenCache.put(jwt, securityUser, claims.getExpiration());
+                    }
                 }
             }
         } catch (Exception e) {
             throw new UnAuthorizedException("토큰이 없거나 만료된 토큰입니다.");
         }
 
-        request.setAttribute("user", email);
+        request.setAttribute("user", authenticatedUser == null ? null : authenticatedUser.getUsername());
+        request.setAttribute("userId", authenticatedUser == null ? null : authenticatedUser.getUserId());
 
         filterChain.doFilter(request, response);
     }
+
+    // 유저 id 와 권한이 담긴 토큰은 유저를 조회하지 않고, 이전에 발급된 토큰만 이메일로 조회
+    private SecurityUser loadSecurityUser(Claims claims, String email) {
+        Long userId = jwtUtil.getUserId(claims);
+        String role = jwtUtil.getRole(claims);
+        if (userId != null && role != null) {
+            return new SecurityUser(userId, email, role);
+        }
+        return (SecurityUser) customUserDetailsService.loadUserByUsername(email);
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+    }
 }
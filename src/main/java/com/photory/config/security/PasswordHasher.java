@@ -0,0 +1,87 @@
+package com.photory.config.security;
+
+import com.photory.common.exception.model.InternalServerException;
+import com.photory.common.exception.model.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.photory.common.exception.ErrorCode.SERVICE_UNAVAILABLE_PASSWORD_HASH_EXCEPTION;
+
+/**
+ * 비밀번호 해시, 검증을 전용 스레드 풀 (passwordHashExecutor) 에서 실행
+ * 풀과 큐가 가득 찼거나 정해진 시간 안에 차례가 오지 않으면 기다리지 않고 503 으로 거절
+ * 풀 사용량 (active, queued, queue.remaining) 은 executor 메트릭으로, 거절 수는 password.hash.rejected 로 확인
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final Counter rejectedCounter;
+    private final long waitTimeoutMillis;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${executor.password-hash.wait-timeout-ms:3000}") long waitTimeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("비밀번호 해시 스레드 풀이 가득 차서 거절된 요청 수")
+                .register(meterRegistry);
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw reject("비밀번호 처리 대기열이 가득 찼습니다.");
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject(String.format("비밀번호 처리가 (%s) ms 안에 끝나지 않았습니다.", waitTimeoutMillis));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("비밀번호 처리 중 요청 스레드가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new InternalServerException(String.format("비밀번호 처리 중 에러가 발생하였습니다. (%s)", e.getCause()));
+        }
+    }
+
+    private ServiceUnavailableException reject(String message) {
+        rejectedCounter.increment();
+        log.warn(message);
+        return new ServiceUnavailableException(message, SERVICE_UNAVAILABLE_PASSWORD_HASH_EXCEPTION);
+    }
+}
@@ -1,11 +1,22 @@
 package com.photory.config.security;
 
 import com.photory.domain.user.User;
+import lombok.Getter;
 import org.springframework.security.core.authority.AuthorityUtils;
 
+@Getter
 public class SecurityUser extends org.springframework.security.core.userdetails.User {
 
+    private final Long userId;
+
     public SecurityUser(User user) {
         super(user.getEmail(), user.getPassword(), AuthorityUtils.createAuthorityList(user.getRole().name()));
+        this.userId = user.getId();
+    }
+
+    // 토큰에 담긴 유저 정보로 만드는 인증 정보 (유저를 조회하지 않으므로 비밀번호는 없음)
+    public SecurityUser(Long userId, String email, String role) {
+        super(email, "", AuthorityUtils.createAuthorityList(role));
+        this.userId = userId;
     }
 }
@@ -0,0 +1,104 @@
+package com.photory.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.photory.common.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * 검증이 끝난 토큰 (SHA-256 해시) -> 인증 정보 캐시 (서버 메모리)
+ * 캐시된 토큰은 서명 검증, 유저 조회, Redis 로그인 상태 확인을 모두 건너뜀
+ * 회원 탈퇴나 새 로그인 시 모든 서버의 해당 유저 토큰을 Redis pub/sub 으로 무효화하고, 메시지를 놓쳐도 TTL 안에 다시 검증됨
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "token:invalidation";
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, VerifiedToken> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<SecurityUser> get(String token) {
+        String digest = digest(token);
+        VerifiedToken verifiedToken = localCache.getIfPresent(digest);
+        if (verifiedToken == null) {
+            return Optional.empty();
+        }
+
+        if (verifiedToken.expiration.before(new Date())) {
+            localCache.invalidate(digest);
+            return Optional.empty();
+        }
+        return Optional.of(verifiedToken.securityUser);
+    }
+
+    public void put(String token, SecurityUser securityUser, Date expiration) {
+        localCache.put(digest(token), new VerifiedToken(securityUser, expiration));
+    }
+
+    /**
+     * 유저의 토큰이 폐기되거나 교체된 경우 호출
+     */
+    public void evict(String email) {
+        evictLocal(email);
+        redisUtil.publish(INVALIDATION_CHANNEL, email);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void evictLocal(String email) {
+        localCache.asMap().values().removeIf(verifiedToken -> email.equals(verifiedToken.securityUser.getUsername()));
+    }
+
+    // 토큰 원문을 메모리에 키로 남기지 않도록 해시로 저장
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class VerifiedToken {
+
+        private final SecurityUser securityUser;
+        private final Date expiration;
+
+        private VerifiedToken(SecurityUser securityUser, Date expiration) {
+            this.securityUser = securityUser;
+            this.expiration = expiration;
+        }
+    }
+}
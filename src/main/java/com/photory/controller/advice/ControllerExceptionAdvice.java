@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.photory.common.dto.ApiResponse;
 import com.photory.common.exception.model.PhotoryException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileUploadException;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -87,6 +88,17 @@ public class ControllerExceptionAdvice {
         return ApiResponse.error(VALIDATION_EXCEPTION);
     }
 
+    /**
+     * 400 BadRequest
+     * 스트리밍 업로드의 multipart 본문이 잘못되었거나 크기 제한을 넘은 경우 발생하는 Exception
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(FileUploadException.class)
+    protected ApiResponse<Object> handleFileUploadException(final FileUploadException e) {
+        log.error(e.getMessage());
+        return ApiResponse.error(VALIDATION_EXCEPTION);
+    }
+
     /**
      * 405 Method Not Allowed
      * 지원하지 않은 HTTP method 호출 할 경우 발생하는 Exception
@@ -2,6 +2,7 @@ package com.photory.controller.feed;
 
 import com.photory.common.dto.ApiResponse;
 import com.photory.config.resolver.UserEmail;
+import com.photory.config.resolver.UserId;
 import com.photory.controller.feed.dto.request.DeleteFeedRequestDto;
 import com.photory.controller.feed.dto.request.ModifyFeedRequestDto;
 import com.photory.controller.feed.dto.response.GetFeedResponse;
@@ -9,12 +10,17 @@ import com.photory.controller.feed.dto.response.GetFeedsResponse;
 import com.photory.controller.feed.dto.response.ModifyFeedResponse;
 import com.photory.service.feed.FeedService;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -23,6 +29,7 @@ import java.util.List;
 public class FeedController {
 
     private final FeedService feedService;
+    private final ServletFileUpload servletFileUpload;
 
     @PostMapping
     public ApiResponse<String> createFeed(
@@ -36,18 +43,44 @@ public class FeedController {
         return ApiResponse.SUCCESS;
     }
 
+    // roomId, title, content 필드를 images 파일보다 먼저 전송해야 함
+    @PostMapping("/stream")
+    public ApiResponse<String> createFeedStreaming(HttpServletRequest request, @UserEmail String userEmail) throws IOException, FileUploadException {
+        feedService.createFeedStreaming(userEmail, servletFileUpload.getItemIterator(request));
+        return ApiResponse.SUCCESS;
+    }
+
     @GetMapping
     public ApiResponse<GetFeedsResponse> getFeeds(@RequestParam Long roomId,
                                                   @RequestParam int size,
-                                                  @RequestParam Long lastFeedId,
-                                                  @UserEmail String userEmail) {
-        GetFeedsResponse response = feedService.getFeeds(userEmail, roomId, size, lastFeedId);
+                                                  @RequestParam(required = false) Long lastFeedId,
+                                                  @UserId Long userId,
+                                                  WebRequest webRequest) {
+        // 피드 목록이 바뀌지 않았으면 피드를 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(feedService.getFeedsETag(userId, roomId))) {
+            return null;
+        }
+
+        GetFeedsResponse response = feedService.getFeeds(userId, roomId, size, lastFeedId);
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/home")
+    public ApiResponse<GetFeedsResponse> getHomeFeeds(@RequestParam int size,
+                                                      @RequestParam(required = false) Long lastFeedId,
+                                                      @UserId Long userId) {
+        GetFeedsResponse response = feedService.getHomeFeeds(userId, size, lastFeedId);
         return ApiResponse.success(response);
     }
 
     @GetMapping("/{feedId}")
-    public ApiResponse<GetFeedResponse> getFeed(@PathVariable("feedId") @Valid Long feedId, @UserEmail String userEmail) {
-        GetFeedResponse response = feedService.getFeed(userEmail, feedId);
+    public ApiResponse<GetFeedResponse> getFeed(@PathVariable("feedId") @Valid Long feedId, @UserId Long userId, WebRequest webRequest) {
+        // 피드가 바뀌지 않았으면 이미지를 조회하지 않고 304 응답
+        if (webRequest.checkNotModified(feedService.getFeedETag(userId, feedId))) {
+            return null;
+        }
+
+        GetFeedResponse response = feedService.getFeed(userId, feedId);
         return ApiResponse.success(response);
     }
 
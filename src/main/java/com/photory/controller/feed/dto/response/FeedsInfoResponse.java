@@ -1,8 +1,8 @@
 package com.photory.controller.feed.dto.response;
 
 import com.photory.common.dto.AuditingTimeResponse;
-import com.photory.domain.feed.Feed;
-import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feed.dto.FeedInfoDto;
+import com.photory.domain.feedimage.dto.FeedImageUrlDto;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -14,33 +14,36 @@ import java.util.List;
 public class FeedsInfoResponse extends AuditingTimeResponse {
 
     private Long feedId;
+    private Long roomId;
     private Long userId;
     private String title;
     private String content;
     private ArrayList<String> imageUrls;
 
     @Builder
-    public FeedsInfoResponse(Long feedId, Long userId, String title, String content, ArrayList<String> imageUrls) {
+    public FeedsInfoResponse(Long feedId, Long roomId, Long userId, String title, String content, ArrayList<String> imageUrls) {
         this.feedId = feedId;
+        this.roomId = roomId;
         this.userId = userId;
         this.title = title;
         this.content = content;
         this.imageUrls = imageUrls;
     }
 
-    public static FeedsInfoResponse of(Feed feed, List<FeedImage> feedImages) {
+    public static FeedsInfoResponse of(FeedInfoDto feed, List<FeedImageUrlDto> feedImages) {
         ArrayList<String> tmp = new ArrayList<>();
-        for (FeedImage feedImage : feedImages) {
-            tmp.add(feedImage.getImageUrl());
+        for (FeedImageUrlDto feedImage : feedImages) {
+            tmp.add(feedImage.getListImageUrl());
         }
         FeedsInfoResponse response = FeedsInfoResponse.builder()
-                .feedId(feed.getId())
-                .userId(feed.getUser().getId())
+                .feedId(feed.getFeedId())
+                .roomId(feed.getRoomId())
+                .userId(feed.getUserId())
                 .title(feed.getTitle())
                 .content(feed.getContent())
                 .imageUrls(tmp)
                 .build();
-        response.setBaseTime(feed);
+        response.setBaseTime(feed.getCreatedAt(), feed.getUpdatedAt());
         return response;
     }
 }
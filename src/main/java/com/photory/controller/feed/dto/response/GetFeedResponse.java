@@ -1,6 +1,6 @@
 package com.photory.controller.feed.dto.response;
 
-import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.dto.FeedDetailDto;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -25,10 +25,10 @@ public class GetFeedResponse {
         this.imageUrls = imageUrls;
     }
 
-    public static GetFeedResponse of(Feed feed, ArrayList<String> imageUrls) {
+    public static GetFeedResponse of(FeedDetailDto feed, ArrayList<String> imageUrls) {
         GetFeedResponse response = GetFeedResponse.builder()
-                .roomId(feed.getRoom().getId())
-                .userId(feed.getUser().getId())
+                .roomId(feed.getRoomId())
+                .userId(feed.getUserId())
                 .title(feed.getTitle())
                 .content(feed.getContent())
                 .imageUrls(imageUrls)
@@ -2,7 +2,7 @@ package com.photory.controller.feed.dto.response;
 
 import com.photory.domain.collection.FeedImageCollection;
 import com.photory.domain.common.collection.ScrollPaginationCollection;
-import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.dto.FeedInfoDto;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,24 +29,30 @@ public class GetFeedsResponse {
         this.nextCursor = nextCursor;
     }
 
-    public static GetFeedsResponse of(ScrollPaginationCollection<Feed> feedsScroll, FeedImageCollection feedImages, long totalElements) {
+    public static GetFeedsResponse of(ScrollPaginationCollection<FeedInfoDto> feedsScroll, FeedImageCollection feedImages, long totalElements) {
         if (feedsScroll.isLastScroll()) {
             return GetFeedsResponse.newLastScroll(feedsScroll.getCurrentScrollItems(), feedImages, totalElements);
         }
-        return GetFeedsResponse.newScrollHasNext(feedsScroll.getCurrentScrollItems(), feedImages, totalElements, feedsScroll.getNextCursor().getId());
+        return GetFeedsResponse.newScrollHasNext(feedsScroll.getCurrentScrollItems(), feedImages, totalElements, feedsScroll.getNextCursor().getFeedId());
     }
 
-    private static GetFeedsResponse newLastScroll(List<Feed> feedsScroll, FeedImageCollection feedImages, long totalElements) {
+    // 이미지 주소까지 채워진 목록 한 줄들로 응답 생성 (FeedRowStore)
+    public static GetFeedsResponse of(ScrollPaginationCollection<FeedsInfoResponse> feedsScroll, long totalElements) {
+        long nextCursor = feedsScroll.isLastScroll() ? LAST_CURSOR : feedsScroll.getNextCursor().getFeedId();
+        return new GetFeedsResponse(new ArrayList<>(feedsScroll.getCurrentScrollItems()), totalElements, nextCursor);
+    }
+
+    private static GetFeedsResponse newLastScroll(List<FeedInfoDto> feedsScroll, FeedImageCollection feedImages, long totalElements) {
         return newScrollHasNext(feedsScroll, feedImages, totalElements, LAST_CURSOR);
     }
 
-    private static GetFeedsResponse newScrollHasNext(List<Feed> feedsScroll, FeedImageCollection feedImages, long totalElements, long nextCursor) {
+    private static GetFeedsResponse newScrollHasNext(List<FeedInfoDto> feedsScroll, FeedImageCollection feedImages, long totalElements, long nextCursor) {
         return new GetFeedsResponse(getContents(feedsScroll, feedImages), totalElements, nextCursor);
     }
 
-    private static List<FeedsInfoResponse> getContents(List<Feed> feedsScroll, FeedImageCollection feedImages) {
+    private static List<FeedsInfoResponse> getContents(List<FeedInfoDto> feedsScroll, FeedImageCollection feedImages) {
         return feedsScroll.stream()
-                .map(feed -> FeedsInfoResponse.of(feed, feedImages.getImagesByFeedId(feed.getId())))
+                .map(feed -> FeedsInfoResponse.of(feed, feedImages.getImagesByFeedId(feed.getFeedId())))
                 .collect(Collectors.toList());
     }
 }
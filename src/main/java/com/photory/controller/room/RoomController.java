@@ -2,6 +2,7 @@ package com.photory.controller.room;
 
 import com.photory.common.dto.ApiResponse;
 import com.photory.config.resolver.UserEmail;
+import com.photory.config.resolver.UserId;
 import com.photory.controller.room.dto.request.*;
 import com.photory.controller.room.dto.response.CreateRoomResponse;
 import com.photory.controller.room.dto.response.GetRoomResponse;
@@ -10,6 +11,7 @@ import com.photory.controller.room.dto.response.JoinRoomResponse;
 import com.photory.service.room.RoomService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.ArrayList;
@@ -34,14 +36,25 @@ public class RoomController {
     }
 
     @GetMapping
-    public ApiResponse<ArrayList<GetRoomsResponse>> getRooms(@UserEmail String userEmail) {
-        ArrayList<GetRoomsResponse> response = roomService.getRooms(userEmail);
+    public ApiResponse<ArrayList<GetRoomsResponse>> getRooms(@RequestParam(required = false) Integer size,
+                                                             @RequestParam(required = false) Long lastRoomId,
+                                                             @UserId Long userId,
+                                                             WebRequest webRequest) {
+        if (webRequest.checkNotModified(roomService.getRoomsETag(userId))) {
+            return null;
+        }
+
+        ArrayList<GetRoomsResponse> response = roomService.getRooms(userId, size, lastRoomId);
         return ApiResponse.success(response);
     }
 
     @GetMapping("/{roomId}")
-    public ApiResponse<GetRoomResponse> getRoom(@PathVariable Long roomId, @UserEmail String userEmail) {
-        GetRoomResponse response = roomService.getRoom(userEmail, roomId);
+    public ApiResponse<GetRoomResponse> getRoom(@PathVariable Long roomId, @UserId Long userId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(roomService.getRoomETag(userId, roomId))) {
+            return null;
+        }
+
+        GetRoomResponse response = roomService.getRoom(userId, roomId);
         return ApiResponse.success(response);
     }
 
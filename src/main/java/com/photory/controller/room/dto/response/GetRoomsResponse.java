@@ -2,6 +2,7 @@ package com.photory.controller.room.dto.response;
 
 import com.photory.common.dto.AuditingTimeResponse;
 import com.photory.domain.room.Room;
+import com.photory.domain.room.dto.RoomListDto;
 import lombok.*;
 
 @ToString
@@ -41,4 +42,18 @@ public class GetRoomsResponse extends AuditingTimeResponse {
         response.setBaseTime(room);
         return response;
     }
+
+    public static GetRoomsResponse of(RoomListDto room) {
+        GetRoomsResponse response = GetRoomsResponse.builder()
+                .id(room.getRoomId())
+                .code(room.getCode())
+                .ownerEmail(room.getOwnerEmail())
+                .title(room.getTitle())
+                .password(room.getPassword())
+                .participantsCount(room.getParticipantsCount())
+                .status(room.getStatus())
+                .build();
+        response.setBaseTime(room.getCreatedAt(), room.getUpdatedAt());
+        return response;
+    }
 }
@@ -1,11 +1,11 @@
 package com.photory.domain.collection;
 
-import com.photory.domain.feed.Feed;
-import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.dto.FeedImageUrlDto;
 import com.photory.domain.feedimage.repository.FeedImageRepository;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -14,24 +14,28 @@ import java.util.stream.Collectors;
 public class FeedImageCollection {
 
     /**
-     * 피드에 포함된 이미지 객체 전달을 위한 Collection
+     * 피드에 포함된 이미지 주소 전달을 위한 Collection
+     * 피드 목록의 이미지 주소를 한 번의 쿼리로 조회한 뒤 피드 id 기준으로 묶어서 보관
      */
 
-    private final Map<Long, List<FeedImage>> collection;
+    private final Map<Long, List<FeedImageUrlDto>> collection;
+
+    public static FeedImageCollection of(List<Long> feedIds, FeedImageRepository feedImageRepository) {
+        if (feedIds.isEmpty()) {
+            return new FeedImageCollection(Collections.emptyMap());
+        }
 
-    public static FeedImageCollection of(List<Feed> feeds, FeedImageRepository feedImageRepository) {
         return new FeedImageCollection(
-                feeds.stream()
+                feedImageRepository.findImageUrlsByFeedIds(feedIds).stream()
                         .collect(
-                                Collectors.toMap(
-                                        feed -> feed.getId(),
-                                        feed -> feedImageRepository.findAllByFeed(feed)
+                                Collectors.groupingBy(
+                                        FeedImageUrlDto::getFeedId
                                 )
                         )
         );
     }
 
-    public List<FeedImage> getImagesByFeedId(Long feedId) {
-        return collection.get(feedId);
+    public List<FeedImageUrlDto> getImagesByFeedId(Long feedId) {
+        return collection.getOrDefault(feedId, Collections.emptyList());
     }
 }
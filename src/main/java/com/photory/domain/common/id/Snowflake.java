@@ -0,0 +1,59 @@
+package com.photory.domain.common.id;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID 생성기
+ * [부호 1비트 | 타임스탬프 41비트 | 노드 10비트 | 시퀀스 12비트]
+ * 같은 노드 안에서는 항상 단조 증가하므로 id 기준 커서 페이지네이션 순서가 유지됨
+ */
+public class Snowflake {
+
+    // 2022-01-01T00:00:00Z
+    private static final long EPOCH = 1640995200000L;
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public Snowflake(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시계를 고정하거나 되돌리기 위한 생성자
+    Snowflake(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(String.format("노드 ID 는 0 ~ %d 사이여야 합니다. (%d)", MAX_NODE_ID, nodeId));
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public synchronized long nextId() {
+        // 시계가 뒤로 가더라도 마지막 타임스탬프를 그대로 사용해 단조 증가를 보장
+        long timestamp = Math.max(clock.getAsLong(), lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 같은 밀리초의 시퀀스를 모두 소진하면 다음 밀리초를 미리 당겨 사용
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+}
@@ -0,0 +1,32 @@
+package com.photory.domain.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+
+/**
+ * 엔티티 ID 를 애플리케이션에서 미리 발급하는 Hibernate 식별자 생성기
+ * IDENTITY 전략과 달리 insert 전에 ID 가 정해지므로 JDBC 배치 insert 가 가능
+ * 노드 ID 는 시스템 프로퍼티 snowflake.node-id 또는 환경 변수 SNOWFLAKE_NODE_ID 로 지정 (인스턴스마다 달라야 함)
+ * 지정하지 않으면 인스턴스끼리 같은 ID 를 발급할 수 있으므로 서버가 뜨지 않음 (테스트, 벤치마크는 build.gradle 에서 지정)
+ */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "snowflake";
+    public static final String STRATEGY = "com.photory.domain.common.id.SnowflakeIdGenerator";
+
+    private static final Snowflake SNOWFLAKE = new Snowflake(resolveNodeId(System.getProperty("snowflake.node-id", System.getenv("SNOWFLAKE_NODE_ID"))));
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return SNOWFLAKE.nextId();
+    }
+
+    static long resolveNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException("노드 ID 가 지정되지 않았습니다. snowflake.node-id 또는 SNOWFLAKE_NODE_ID 를 설정해 주세요.");
+        }
+        return Long.parseLong(nodeId.trim());
+    }
+}
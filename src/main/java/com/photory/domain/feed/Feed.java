@@ -1,9 +1,11 @@
 package com.photory.domain.feed;
 
 import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
 import com.photory.domain.room.Room;
 import com.photory.domain.user.User;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -14,14 +16,15 @@ import javax.persistence.*;
 public class Feed extends AuditingTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ROOM_ID")
     private Room room;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User user;
 
@@ -0,0 +1,26 @@
+package com.photory.domain.feed.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 피드 상세 조회용 projection
+ */
+@ToString
+@Getter
+public class FeedDetailDto {
+
+    private final Long feedId;
+    private final Long roomId;
+    private final Long userId;
+    private final String title;
+    private final String content;
+
+    public FeedDetailDto(Long feedId, Long roomId, Long userId, String title, String content) {
+        this.feedId = feedId;
+        this.roomId = roomId;
+        this.userId = userId;
+        this.title = title;
+        this.content = content;
+    }
+}
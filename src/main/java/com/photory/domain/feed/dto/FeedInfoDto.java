@@ -0,0 +1,32 @@
+package com.photory.domain.feed.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 목록 조회용 projection (연관 엔티티를 로딩하지 않고 필요한 컬럼만 조회)
+ */
+@ToString
+@Getter
+public class FeedInfoDto {
+
+    private final Long feedId;
+    private final Long roomId;
+    private final Long userId;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public FeedInfoDto(Long feedId, Long roomId, Long userId, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.feedId = feedId;
+        this.roomId = roomId;
+        this.userId = userId;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
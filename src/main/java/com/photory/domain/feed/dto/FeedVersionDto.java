@@ -0,0 +1,25 @@
+package com.photory.domain.feed.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 피드 상세 ETag 계산용 projection
+ * 이미지는 생성 이후 미리보기 주소만 바뀌므로 미리보기가 만들어진 이미지 수로 이미지 변경을 판단
+ */
+@ToString
+@Getter
+public class FeedVersionDto {
+
+    private final Long roomId;
+    private final LocalDateTime updatedAt;
+    private final long previewCount;
+
+    public FeedVersionDto(Long roomId, LocalDateTime updatedAt, long previewCount) {
+        this.roomId = roomId;
+        this.updatedAt = updatedAt;
+        this.previewCount = previewCount;
+    }
+}
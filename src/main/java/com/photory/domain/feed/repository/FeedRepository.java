@@ -1,14 +1,42 @@
 package com.photory.domain.feed.repository;
 
 import com.photory.domain.feed.Feed;
-import com.photory.domain.room.Room;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import com.photory.domain.feed.dto.FeedDetailDto;
+import com.photory.domain.feed.dto.FeedInfoDto;
+import com.photory.domain.feed.dto.FeedVersionDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface FeedRepository extends JpaRepository<Feed, Long> {
+import java.util.List;
+import java.util.Optional;
 
-    Page<Feed> findAllByRoomAndIdLessThanOrderByIdDesc(Room room, Long lastFeedId, PageRequest pageRequest);
+public interface FeedRepository extends JpaRepository<Feed, Long>, FeedRepositoryCustom {
 
-    long countAllByRoom(Room room);
+    // List 반환으로 count 쿼리 없이 limit 만 적용 (다음 스크롤 확인을 위해 size + 1 개 조회)
+    @Query("select new com.photory.domain.feed.dto.FeedInfoDto(f.id, f.room.id, f.user.id, f.title, f.content, f.createdAt, f.updatedAt) " +
+            "from Feed f where f.room.id = :roomId order by f.id desc")
+    List<FeedInfoDto> findFeedInfosByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("select new com.photory.domain.feed.dto.FeedInfoDto(f.id, f.room.id, f.user.id, f.title, f.content, f.createdAt, f.updatedAt) " +
+            "from Feed f where f.room.id = :roomId and f.id < :lastFeedId order by f.id desc")
+    List<FeedInfoDto> findFeedInfosByRoomIdAndIdLessThan(@Param("roomId") Long roomId, @Param("lastFeedId") Long lastFeedId, Pageable pageable);
+
+    // 방 타임라인에서 꺼낸 피드 id 들을 한 번에 조회 (기본 키 조회)
+    @Query("select new com.photory.domain.feed.dto.FeedInfoDto(f.id, f.room.id, f.user.id, f.title, f.content, f.createdAt, f.updatedAt) " +
+            "from Feed f where f.id in :feedIds order by f.id desc")
+    List<FeedInfoDto> findFeedInfosByIdIn(@Param("feedIds") List<Long> feedIds);
+
+    @Query("select f.id from Feed f where f.room.id = :roomId order by f.id desc")
+    List<Long> findFeedIdsByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query("select new com.photory.domain.feed.dto.FeedDetailDto(f.id, f.room.id, f.user.id, f.title, f.content) " +
+            "from Feed f where f.id = :feedId")
+    Optional<FeedDetailDto> findFeedDetailById(@Param("feedId") Long feedId);
+
+    @Query("select new com.photory.domain.feed.dto.FeedVersionDto(f.room.id, f.updatedAt, " +
+            "(select count(fi.previewUrl) from FeedImage fi where fi.feed.id = f.id)) " +
+            "from Feed f where f.id = :feedId")
+    Optional<FeedVersionDto> findFeedVersionById(@Param("feedId") Long feedId);
 }
@@ -0,0 +1,13 @@
+package com.photory.domain.feed.repository;
+
+import com.photory.domain.feed.dto.FeedInfoDto;
+
+import java.util.List;
+
+public interface FeedRepositoryCustom {
+
+    /**
+     * 여러 방의 최신 피드를 id 내림차순으로 합쳐서 limit 개 반환 (lastFeedId 가 있으면 그보다 작은 id 부터)
+     */
+    List<FeedInfoDto> findTimelineByRoomIds(List<Long> roomIds, Long lastFeedId, int limit);
+}
@@ -0,0 +1,117 @@
+package com.photory.domain.feed.repository;
+
+import com.photory.domain.feed.dto.FeedInfoDto;
+import lombok.RequiredArgsConstructor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class FeedRepositoryImpl implements FeedRepositoryCustom {
+
+    private static final String ROOM_TIMELINE_QUERY = "(select f.id, f.room_id, f.user_id, f.title, f.content, f.created_at, f.updated_at " +
+            "from feed f where f.room_id = ? and f.id < ? order by f.id desc limit ?)";
+
+    private final EntityManager entityManager;
+
+    /**
+     * 방마다 (room_id, id) 인덱스로 최대 limit 개씩 읽는 쿼리를 UNION ALL 로 묶어 한 번에 조회하고,
+     * 방별 커서를 힙에 넣어 id 가 큰 순서로 k-way merge
+     */
+    @Override
+    public List<FeedInfoDto> findTimelineByRoomIds(List<Long> roomIds, Long lastFeedId, int limit) {
+        if (roomIds.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        String sql = roomIds.stream()
+                .map(roomId -> ROOM_TIMELINE_QUERY)
+                .collect(Collectors.joining(" union all "));
+
+        Query query = entityManager.createNativeQuery(sql);
+        long cursor = lastFeedId == null ? Long.MAX_VALUE : lastFeedId;
+        int position = 1;
+        for (Long roomId : roomIds) {
+            query.setParameter(position++, roomId);
+            query.setParameter(position++, cursor);
+            query.setParameter(position++, limit);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        Map<Long, List<FeedInfoDto>> feedsByRoomId = new HashMap<>();
+        for (Object[] row : rows) {
+            FeedInfoDto feed = toFeedInfoDto(row);
+            feedsByRoomId.computeIfAbsent(feed.getRoomId(), key -> new ArrayList<>()).add(feed);
+        }
+
+        return merge(feedsByRoomId.values(), limit);
+    }
+
+    private List<FeedInfoDto> merge(Collection<List<FeedInfoDto>> roomTimelines, int limit) {
+        PriorityQueue<RoomCursor> heap = new PriorityQueue<>(roomTimelines.size(),
+                Comparator.comparing((RoomCursor roomCursor) -> roomCursor.peek().getFeedId()).reversed());
+
+        for (List<FeedInfoDto> roomTimeline : roomTimelines) {
+            // UNION ALL 결과는 방 안에서의 순서를 보장하지 않으므로 방별로 정렬 (방마다 최대 limit 개)
+            roomTimeline.sort(Comparator.comparing(FeedInfoDto::getFeedId).reversed());
+            heap.add(new RoomCursor(roomTimeline));
+        }
+
+        List<FeedInfoDto> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heap.isEmpty()) {
+            RoomCursor roomCursor = heap.poll();
+            merged.add(roomCursor.next());
+            if (roomCursor.hasNext()) {
+                heap.add(roomCursor);
+            }
+        }
+        return merged;
+    }
+
+    private FeedInfoDto toFeedInfoDto(Object[] row) {
+        return new FeedInfoDto(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                (String) row[3],
+                (String) row[4],
+                toLocalDateTime(row[5]),
+                toLocalDateTime(row[6])
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private static class RoomCursor {
+
+        private final List<FeedInfoDto> feeds;
+        private int index;
+
+        private RoomCursor(List<FeedInfoDto> feeds) {
+            this.feeds = feeds;
+        }
+
+        private FeedInfoDto peek() {
+            return feeds.get(index);
+        }
+
+        private FeedInfoDto next() {
+            return feeds.get(index++);
+        }
+
+        private boolean hasNext() {
+            return index < feeds.size();
+        }
+    }
+}
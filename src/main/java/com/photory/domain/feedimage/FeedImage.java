@@ -1,11 +1,13 @@
 package com.photory.domain.feedimage;
 
 import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
 import com.photory.domain.feed.Feed;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -16,16 +18,22 @@ import javax.persistence.*;
 public class FeedImage extends AuditingTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "FEED_ID")
     private Feed feed;
 
     @Column(nullable = false)
     private String imageUrl;
 
+    // 썸네일, 미리보기 이미지는 ImageVariantService 가 비동기로 만든 뒤 기록 (만들어지기 전에는 null)
+    private String thumbnailUrl;
+
+    private String previewUrl;
+
     @Builder
     public FeedImage(Feed feed, String imageUrl) {
         this.feed = feed;
@@ -38,4 +46,14 @@ public class FeedImage extends AuditingTimeEntity {
                 .imageUrl(imageUrl)
                 .build();
     }
+
+    // 목록 화면용 이미지 (썸네일이 아직 없으면 원본)
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    // 상세 화면용 이미지 (미리보기가 아직 없으면 원본)
+    public String getDetailImageUrl() {
+        return previewUrl != null ? previewUrl : imageUrl;
+    }
 }
@@ -0,0 +1,24 @@
+package com.photory.domain.feedimage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 피드 이미지 원본과 함께 저장하는 고정 너비 JPEG 이미지
+ * 파일 이름은 원본 파일 이름에서 결정되므로 원본만 알면 언제든 다시 계산할 수 있음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FeedImageVariant {
+    THUMBNAIL(320, "_thumb"),  // 피드 목록 그리드
+    PREVIEW(1080, "_preview"); // 피드 상세 화면
+
+    private final int width;
+    private final String suffix;
+
+    public String getFileName(String originalFileName) {
+        int extensionIndex = originalFileName.lastIndexOf(".");
+        String baseName = extensionIndex < 0 ? originalFileName : originalFileName.substring(0, extensionIndex);
+        return baseName + suffix + ".jpg";
+    }
+}
@@ -0,0 +1,34 @@
+package com.photory.domain.feedimage.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 피드 이미지 주소 projection
+ */
+@ToString
+@Getter
+public class FeedImageUrlDto {
+
+    private final Long feedId;
+    private final String imageUrl;
+    private final String thumbnailUrl;
+    private final String previewUrl;
+
+    public FeedImageUrlDto(Long feedId, String imageUrl, String thumbnailUrl, String previewUrl) {
+        this.feedId = feedId;
+        this.imageUrl = imageUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.previewUrl = previewUrl;
+    }
+
+    // 목록 화면용 이미지 (썸네일이 아직 없으면 원본)
+    public String getListImageUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    // 상세 화면용 이미지 (미리보기가 아직 없으면 원본)
+    public String getDetailImageUrl() {
+        return previewUrl != null ? previewUrl : imageUrl;
+    }
+}
@@ -2,11 +2,30 @@ package com.photory.domain.feedimage.repository;
 
 import com.photory.domain.feed.Feed;
 import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.dto.FeedImageUrlDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 public interface FeedImageRepository extends JpaRepository<FeedImage, Long> {
 
     ArrayList<FeedImage> findAllByFeed(Feed feed);
+
+    @Query("select new com.photory.domain.feedimage.dto.FeedImageUrlDto(fi.feed.id, fi.imageUrl, fi.thumbnailUrl, fi.previewUrl) " +
+            "from FeedImage fi where fi.feed.id in :feedIds order by fi.id asc")
+    List<FeedImageUrlDto> findImageUrlsByFeedIds(@Param("feedIds") List<Long> feedIds);
+
+    // 같은 파일을 쓰는 다른 피드 이미지에 이미 만들어진 썸네일, 미리보기
+    Optional<FeedImage> findFirstByImageUrlAndThumbnailUrlIsNotNull(String imageUrl);
+
+    @Transactional
+    @Modifying
+    @Query("update FeedImage fi set fi.thumbnailUrl = :thumbnailUrl, fi.previewUrl = :previewUrl where fi.id = :feedImageId")
+    int updateVariantUrls(@Param("feedImageId") Long feedImageId, @Param("thumbnailUrl") String thumbnailUrl, @Param("previewUrl") String previewUrl);
 }
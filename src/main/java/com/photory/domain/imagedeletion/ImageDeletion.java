@@ -0,0 +1,43 @@
+package com.photory.domain.imagedeletion;
+
+import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+/**
+ * S3 에서 삭제해야 하는 이미지 파일 (삭제 대기 목록)
+ */
+@Table
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageDeletion extends AuditingTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String imageUrl;
+
+    @Setter
+    @Column(nullable = false)
+    private int retryCount;
+
+    @Builder
+    public ImageDeletion(String imageUrl, int retryCount) {
+        this.imageUrl = imageUrl;
+        this.retryCount = retryCount;
+    }
+
+    public static ImageDeletion of(String imageUrl) {
+        return ImageDeletion.builder()
+                .imageUrl(imageUrl)
+                .retryCount(0)
+                .build();
+    }
+}
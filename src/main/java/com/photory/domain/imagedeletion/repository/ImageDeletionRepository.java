@@ -0,0 +1,12 @@
+package com.photory.domain.imagedeletion.repository;
+
+import com.photory.domain.imagedeletion.ImageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    // S3 DeleteObjects 요청 한 번에 삭제할 수 있는 최대 개수
+    List<ImageDeletion> findTop1000ByOrderByIdAsc();
+}
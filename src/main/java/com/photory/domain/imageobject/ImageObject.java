@@ -0,0 +1,55 @@
+package com.photory.domain.imageobject;
+
+import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+/**
+ * S3 에 저장된 이미지 파일과 내용 해시 (SHA-256)
+ * 같은 내용의 이미지는 파일 하나를 함께 사용하고, 참조 수가 0 이 되면 파일을 삭제
+ */
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "UK_IMAGE_OBJECT_CONTENT_HASH", columnNames = "contentHash"),
+        @UniqueConstraint(name = "UK_IMAGE_OBJECT_IMAGE_URL", columnNames = "imageUrl")
+})
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageObject extends AuditingTimeEntity {
+
+    @Id
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String imageUrl;
+
+    // 참조 수는 ImageObjectRepository 의 원자적 증감 쿼리로만 변경
+    @Column(nullable = false)
+    private long refCount;
+
+    @Builder
+    public ImageObject(String contentHash, String imageUrl, long refCount) {
+        this.contentHash = contentHash;
+        this.imageUrl = imageUrl;
+        this.refCount = refCount;
+    }
+
+    public static ImageObject of(String contentHash, String imageUrl) {
+        return ImageObject.builder()
+                .contentHash(contentHash)
+                .imageUrl(imageUrl)
+                .refCount(1L)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.photory.domain.imageobject.repository;
+
+import com.photory.domain.imageobject.ImageObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+    Optional<ImageObject> findByContentHash(String contentHash);
+
+    boolean existsByImageUrl(String imageUrl);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageObject io set io.refCount = io.refCount + 1 where io.contentHash = :contentHash")
+    int increaseRefCount(@Param("contentHash") String contentHash);
+
+    @Transactional
+    @Modifying
+    @Query("update ImageObject io set io.refCount = io.refCount - 1 where io.imageUrl = :imageUrl and io.refCount > 0")
+    int decreaseRefCount(@Param("imageUrl") String imageUrl);
+
+    // 그 사이에 다시 참조되지 않은 경우에만 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ImageObject io where io.imageUrl = :imageUrl and io.refCount = 0")
+    int deleteUnreferenced(@Param("imageUrl") String imageUrl);
+}
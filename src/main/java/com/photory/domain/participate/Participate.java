@@ -1,30 +1,34 @@
 package com.photory.domain.participate;
 
 import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
 import com.photory.domain.room.Room;
 import com.photory.domain.user.User;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
-@Table
+// 같은 유저가 같은 방에 동시에 참여해도 한 번만 저장되도록 유니크 제약
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_PARTICIPATE_ROOM_USER", columnNames = {"ROOM_ID", "USER_ID"}))
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Participate extends AuditingTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ROOM_ID")
     private Room room;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User user;
 
@@ -0,0 +1,25 @@
+package com.photory.domain.participate.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여 중인 방 목록 ETag 계산용 projection
+ * 방에 들어오거나 나가면 방 수가, 참여 인원이 바뀌면 인원 합계가, 방 정보가 바뀌면 마지막 수정 시각이 바뀜
+ */
+@ToString
+@Getter
+public class ParticipatingRoomsVersionDto {
+
+    private final long roomsCount;
+    private final Long participantsCountSum;
+    private final LocalDateTime lastUpdatedAt;
+
+    public ParticipatingRoomsVersionDto(long roomsCount, Long participantsCountSum, LocalDateTime lastUpdatedAt) {
+        this.roomsCount = roomsCount;
+        this.participantsCountSum = participantsCountSum;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+}
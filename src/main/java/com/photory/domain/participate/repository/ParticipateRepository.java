@@ -1,18 +1,63 @@
 package com.photory.domain.participate.repository;
 
 import com.photory.domain.participate.Participate;
+import com.photory.domain.participate.dto.ParticipatingRoomsVersionDto;
 import com.photory.domain.room.Room;
+import com.photory.domain.room.dto.RoomListDto;
 import com.photory.domain.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public interface ParticipateRepository extends JpaRepository<Participate, Long> {
 
     Optional<Participate> findByRoomAndUser(Room room, User user);
 
+    // 참여 중인 방 목록과 방장까지 한 번에 로딩
+    @EntityGraph(attributePaths = {"room", "room.ownerUser"})
     ArrayList<Participate> findAllByUser(User user);
 
     ArrayList<Participate> findAllByRoom(Room room);
+
+    // 방 상세의 참여자 목록은 유저 id 만 필요 (엔티티를 로딩하지 않음)
+    @Query("select p.user.id from Participate p where p.room.id = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    long countByRoomId(Long roomId);
+
+    // 방 목록 화면에 필요한 컬럼만 방, 방장과 조인해서 한 번에 조회 (방 id 내림차순 keyset)
+    @Query("select new com.photory.domain.room.dto.RoomListDto(r.id, r.code, o.email, r.title, r.password, r.participantsCount, r.status, r.createdAt, r.updatedAt) " +
+            "from Participate p join p.room r join r.ownerUser o where p.user.id = :userId order by r.id desc")
+    List<RoomListDto> findRoomListByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select new com.photory.domain.room.dto.RoomListDto(r.id, r.code, o.email, r.title, r.password, r.participantsCount, r.status, r.createdAt, r.updatedAt) " +
+            "from Participate p join p.room r join r.ownerUser o where p.user.id = :userId and r.id < :lastRoomId order by r.id desc")
+    List<RoomListDto> findRoomListByUserIdAndRoomIdLessThan(@Param("userId") Long userId, @Param("lastRoomId") Long lastRoomId, Pageable pageable);
+
+    // 참여 여부만 확인 (방, 유저 엔티티를 로딩하지 않음)
+    boolean existsByRoomIdAndUserId(Long roomId, Long userId);
+
+    // 삭제된 행 수로 이미 나간 경우를 구분 (동시에 나가도 한 번만 인원이 줄어듦)
+    @Transactional
+    @Modifying
+    @Query("delete from Participate p where p.room.id = :roomId and p.user.id = :userId")
+    int deleteByRoomIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    @Query("select new com.photory.domain.participate.dto.ParticipatingRoomsVersionDto(count(r), sum(r.participantsCount), max(r.updatedAt)) " +
+            "from Participate p join p.room r where p.user.id = :userId")
+    ParticipatingRoomsVersionDto findParticipatingRoomsVersion(@Param("userId") Long userId);
+
+    @Query("select p.room.id from Participate p where p.user.id = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
+    @Query("select coalesce(sum(r.feedsCount), 0) from Participate p join p.room r where p.user.id = :userId")
+    long sumFeedsCountByUserId(@Param("userId") Long userId);
 }
@@ -1,8 +1,10 @@
 package com.photory.domain.room;
 
 import com.photory.domain.common.AuditingTimeEntity;
+import com.photory.domain.common.id.SnowflakeIdGenerator;
 import com.photory.domain.user.User;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -13,14 +15,15 @@ import javax.persistence.*;
 public class Room extends AuditingTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdGenerator.NAME, strategy = SnowflakeIdGenerator.STRATEGY)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 20)
     private String code;
 
     @Setter
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "USER_ID")
     private User ownerUser;
 
@@ -31,14 +34,26 @@ public class Room extends AuditingTimeEntity {
     @Column(nullable = false, length = 100)
     private String password;
 
-    @Setter
-    @Column(nullable = false)
+    // 참여 인원은 RoomRepository 의 조건부 증감 쿼리로만 변경 (동시에 참여해도 최대 인원을 넘거나 갱신을 잃지 않도록)
+    @Column(nullable = false, updatable = false)
     private int participantsCount;
 
     @Setter
     @Column(nullable = false)
     private Boolean status;
 
+    // 피드 개수는 RoomRepository 의 원자적 증감 쿼리로만 변경 (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(nullable = false, updatable = false)
+    private long feedsCount;
+
+    // 피드 목록이 바뀔 때마다 증가하는 버전 (피드 목록 ETag), RoomRepository 의 원자적 쿼리로만 변경
+    @Column(nullable = false, updatable = false)
+    private long feedsVersion;
+
+    // 방의 가장 최신 피드 id (피드가 없으면 null), 피드 개수와 함께 RoomRepository 의 원자적 쿼리로만 변경
+    @Column(updatable = false)
+    private Long latestFeedId;
+
     @Builder
     public Room(String code, User ownerUser, String title, String password, int participantsCount, Boolean status) {
         this.code = code;
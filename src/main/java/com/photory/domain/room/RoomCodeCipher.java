@@ -0,0 +1,65 @@
+package com.photory.domain.room;
+
+/**
+ * 순번을 키로 섞어서 8 자리 방 코드 (숫자 + 알파벳 대문자) 로 바꾸는 순열
+ * 36^8 범위 안에서 일대일 대응이므로 서로 다른 순번은 항상 서로 다른 코드가 되고, 코드만 보고 다음 코드를 추측하기 어려움
+ */
+public class RoomCodeCipher {
+
+    public static final int CODE_LENGTH = 8;
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // 36^8 (가능한 방 코드 수)
+    public static final long CODE_SPACE = 2_821_109_907_456L;
+
+    // 36^8 보다 큰 42 비트를 21 비트씩 나눠서 Feistel 네트워크로 섞음
+    private static final int HALF_BITS = 21;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public RoomCodeCipher(long key) {
+        for (int round = 0; round < ROUNDS; round++) {
+            roundKeys[round] = mix(key + round * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    public String encode(long sequence) {
+        if (sequence < 0 || sequence >= CODE_SPACE) {
+            throw new IllegalArgumentException(String.format("방 코드 순번 (%s) 이 범위를 벗어났습니다.", sequence));
+        }
+
+        // 42 비트 순열 결과가 36^8 이상이면 범위 안에 들어올 때까지 다시 섞음 (cycle walking, 평균 1.6 회)
+        long value = sequence;
+        do {
+            value = permute(value);
+        } while (value >= CODE_SPACE);
+
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value % ALPHABET.length()));
+            value /= ALPHABET.length();
+        }
+        return new String(code);
+    }
+
+    private long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            long next = left ^ (mix(right ^ roundKey) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    // SplitMix64 마무리 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
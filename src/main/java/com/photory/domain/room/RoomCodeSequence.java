@@ -0,0 +1,46 @@
+package com.photory.domain.room;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 방 코드 순번 (한 줄만 사용)
+ * 서버마다 순번을 블록 단위로 예약해 가므로, Redis 가 초기화되거나 서버가 재시작되어도 이미 쓴 순번을 다시 쓰지 않음
+ */
+@Table
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomCodeSequence {
+
+    public static final Long ID = 1L;
+
+    @Id
+    private Long id;
+
+    // 아직 예약되지 않은 첫 순번
+    @Column(nullable = false)
+    private long nextValue;
+
+    private RoomCodeSequence(Long id, long nextValue) {
+        this.id = id;
+        this.nextValue = nextValue;
+    }
+
+    public static RoomCodeSequence of(long nextValue) {
+        return new RoomCodeSequence(ID, nextValue);
+    }
+
+    // blockSize 개의 순번을 예약하고 예약한 첫 순번을 반환
+    public long allocate(int blockSize) {
+        long start = nextValue;
+        nextValue += blockSize;
+        return start;
+    }
+}
@@ -0,0 +1,36 @@
+package com.photory.domain.room.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여 중인 방 목록 한 줄 (방과 방장 이메일을 한 번의 조인으로 조회)
+ */
+@ToString
+@Getter
+public class RoomListDto {
+
+    private final Long roomId;
+    private final String code;
+    private final String ownerEmail;
+    private final String title;
+    private final String password;
+    private final int participantsCount;
+    private final Boolean status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public RoomListDto(Long roomId, String code, String ownerEmail, String title, String password, int participantsCount, Boolean status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.roomId = roomId;
+        this.code = code;
+        this.ownerEmail = ownerEmail;
+        this.title = title;
+        this.password = password;
+        this.participantsCount = participantsCount;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
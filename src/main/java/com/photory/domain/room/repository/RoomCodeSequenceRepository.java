@@ -0,0 +1,18 @@
+package com.photory.domain.room.repository;
+
+import com.photory.domain.room.RoomCodeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface RoomCodeSequenceRepository extends JpaRepository<RoomCodeSequence, Long> {
+
+    // 여러 서버가 동시에 블록을 예약해도 겹치지 않도록 행 잠금 (select ... for update)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from RoomCodeSequence s where s.id = :id")
+    Optional<RoomCodeSequence> findForUpdateById(@Param("id") Long id);
+}
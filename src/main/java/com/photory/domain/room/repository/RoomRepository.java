@@ -2,13 +2,80 @@ package com.photory.domain.room.repository;
 
 import com.photory.domain.room.Room;
 import com.photory.domain.user.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface RoomRepository extends JpaRepository<Room, Long> {
 
+    // 응답에 방장 이메일이 필요한 조회는 방장을 함께 로딩
+    @EntityGraph(attributePaths = "ownerUser")
     Optional<Room> findByCode(String code);
 
+    // room.code 유니크 인덱스로 확인
+    boolean existsByCode(String code);
+
+    @EntityGraph(attributePaths = "ownerUser")
     Optional<Room> findByOwnerUser(User user);
+
+    @EntityGraph(attributePaths = "ownerUser")
+    Optional<Room> findWithOwnerUserById(Long id);
+
+    // 동시에 작성된 피드가 발급 순서와 다르게 커밋되어도 가장 큰 id 를 최신 피드로 유지
+    @Transactional
+    @Modifying
+    @Query("update Room r set r.feedsCount = r.feedsCount + 1, r.feedsVersion = r.feedsVersion + 1, " +
+            "r.latestFeedId = case when r.latestFeedId is null or r.latestFeedId < :feedId then :feedId else r.latestFeedId end " +
+            "where r.id = :roomId")
+    int increaseFeedsCount(@Param("roomId") Long roomId, @Param("feedId") Long feedId);
+
+    // 피드를 삭제한 뒤 같은 트랜잭션에서 호출 (남은 피드 중 가장 큰 id 를 최신 피드로 다시 계산)
+    @Transactional
+    @Modifying
+    @Query(value = "update room r set r.feeds_count = r.feeds_count - 1, r.feeds_version = r.feeds_version + 1, " +
+            "r.latest_feed_id = (select max(f.id) from feed f where f.room_id = :roomId) " +
+            "where r.id = :roomId and r.feeds_count > 0", nativeQuery = true)
+    int decreaseFeedsCount(@Param("roomId") Long roomId);
+
+    // 피드 수정, 썸네일 생성처럼 개수는 그대로이고 피드 목록 응답만 바뀌는 경우
+    @Transactional
+    @Modifying
+    @Query("update Room r set r.feedsVersion = r.feedsVersion + 1 where r.id = :roomId")
+    int increaseFeedsVersion(@Param("roomId") Long roomId);
+
+    // 최대 인원보다 적을 때만 증가 (수정 시각도 함께 바꿔서 방 ETag 가 바뀌도록 함)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Room r set r.participantsCount = r.participantsCount + 1, r.updatedAt = :now " +
+            "where r.id = :roomId and r.participantsCount < :capacity")
+    int increaseParticipantsCount(@Param("roomId") Long roomId, @Param("capacity") int capacity, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update Room r set r.participantsCount = r.participantsCount - 1, r.updatedAt = :now " +
+            "where r.id = :roomId and r.participantsCount > 0")
+    int decreaseParticipantsCount(@Param("roomId") Long roomId, @Param("now") LocalDateTime now);
+
+    // 피드 개수 보정을 id 순서로 나누어 진행하기 위한 방 id 조회
+    @Query("select r.id from Room r where r.id > :lastRoomId order by r.id")
+    List<Long> findIdsByIdGreaterThan(@Param("lastRoomId") Long lastRoomId, Pageable pageable);
+
+    // id 범위 안의 방만 실제 피드 개수, 최신 피드로 보정하고, 값이 바뀐 방은 피드 버전도 올려서 ETag 와 첫 스크롤 캐시가 바뀌도록 함
+    @Transactional
+    @Modifying
+    @Query(value = "update room r " +
+            "left join (select f.room_id, count(*) as feeds_count, max(f.id) as latest_feed_id from feed f " +
+            "where f.room_id between :fromRoomId and :toRoomId group by f.room_id) c on c.room_id = r.id " +
+            "set r.feeds_count = coalesce(c.feeds_count, 0), r.latest_feed_id = c.latest_feed_id, r.feeds_version = r.feeds_version + 1 " +
+            "where r.id between :fromRoomId and :toRoomId " +
+            "and (r.feeds_count <> coalesce(c.feeds_count, 0) or not (r.latest_feed_id <=> c.latest_feed_id))", nativeQuery = true)
+    int reconcileFeedsCount(@Param("fromRoomId") Long fromRoomId, @Param("toRoomId") Long toRoomId);
 }
@@ -1,7 +1,12 @@
 package com.photory.domain.user.repository;
 
 import com.photory.domain.user.User;
+import com.photory.domain.user.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    // 캐시된 유저 엔티티를 수정하지 않고 상태만 변경
+    @Transactional
+    @Modifying
+    @Query("update User u set u.status = :status where u.id = :userId")
+    int updateStatus(@Param("userId") Long userId, @Param("status") UserStatus status);
 }
@@ -6,6 +6,8 @@ import com.photory.common.exception.model.NotFoundException;
 import com.photory.common.exception.model.ValidationException;
 import com.photory.common.util.JwtUtil;
 import com.photory.common.util.RedisUtil;
+import com.photory.config.security.PasswordHasher;
+import com.photory.config.security.VerifiedTokenCache;
 import com.photory.controller.auth.dto.request.AuthEmailCompleteRequestDto;
 import com.photory.controller.auth.dto.request.AuthEmailRequestDto;
 import com.photory.controller.auth.dto.request.SigninUserRequestDto;
@@ -16,7 +18,6 @@ import com.photory.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import javax.mail.MessagingException;
@@ -31,10 +32,11 @@ import static com.photory.common.exception.ErrorCode.*;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
     private final RedisUtil redisUtil;
     private final JavaMailSender javaMailSender;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public void validateEmail(ValidateEmailRequestDto request) {
 
@@ -88,7 +90,7 @@ public class AuthService {
         Optional<User> user = userRepository.findByEmail(email);
 
         if (user.isPresent() && user.get().getStatus() == UserStatus.ACTIVE) {
-            if (passwordEncoder.matches(password, user.get().getPassword())) {
+            if (passwordHasher.matches(password, user.get().getPassword())) {
                 String token = createToken(user.get());
 
                 return token;
@@ -123,6 +125,7 @@ public class AuthService {
     private String createToken(User user) {
         String token = jwtUtil.generateToken(user);
         redisUtil.setDataExpire(user.getEmail(), token, JwtUtil.TOKEN_VALIDATION_SECOND);
+        verifiedTokenCache.evict(user.getEmail());
 
         return token;
     }
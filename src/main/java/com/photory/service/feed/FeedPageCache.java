@@ -0,0 +1,99 @@
+package com.photory.service.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.photory.common.util.RedisUtil;
+import com.photory.controller.feed.dto.response.GetFeedsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 방 피드 첫 스크롤 응답 캐시
+ * L1 (서버 메모리) -> L2 (Redis) 순서로 조회하고, 응답을 만들기 전에 읽은 방의 피드 버전을 키에 포함
+ * 피드가 바뀌면 버전이 올라가서 이전 버전 키는 다시 읽히지 않으므로 다른 서버의 L1 은 따로 무효화하지 않고 만료될 때까지 둠
+ * 방의 피드 버전도 Redis 에 짧게 캐시해서 ETag 확인과 캐시된 첫 스크롤은 DB 를 조회하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedPageCache {
+
+    private static final String KEY_PREFIX = "feeds:first:";
+    private static final long REDIS_EXPIRE_SECOND = 60L;
+
+    // 피드 변경 커밋 후 지우지만, 그 직전에 DB 에서 읽은 이전 버전이 늦게 저장될 수 있으므로 짧게 유지
+    private static final String VERSION_KEY_PREFIX = "feeds:version:";
+    private static final long VERSION_EXPIRE_SECOND = 10L;
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, GetFeedsResponse> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .build();
+
+    public Optional<GetFeedsResponse> get(Long roomId, long feedsVersion, int size) {
+        GetFeedsResponse local = localCache.getIfPresent(toLocalKey(roomId, feedsVersion, size));
+        if (local != null) {
+            return Optional.of(local);
+        }
+
+        String json = redisUtil.getHashData(KEY_PREFIX + roomId, toHashKey(feedsVersion, size));
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            GetFeedsResponse response = objectMapper.readValue(json, GetFeedsResponse.class);
+            localCache.put(toLocalKey(roomId, feedsVersion, size), response);
+            return Optional.of(response);
+        } catch (JsonProcessingException e) {
+            log.warn("방 ({}) 의 피드 캐시를 읽는 중 에러가 발생하였습니다.", roomId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * feedsVersion 은 응답을 만들기 위해 피드를 조회하기 전에 읽은 방의 피드 버전
+     */
+    public void put(Long roomId, long feedsVersion, int size, GetFeedsResponse response) {
+        localCache.put(toLocalKey(roomId, feedsVersion, size), response);
+
+        try {
+            redisUtil.setHashDataExpire(KEY_PREFIX + roomId, toHashKey(feedsVersion, size), objectMapper.writeValueAsString(response), REDIS_EXPIRE_SECOND);
+        } catch (JsonProcessingException e) {
+            log.warn("방 ({}) 의 피드 캐시를 저장하는 중 에러가 발생하였습니다.", roomId, e);
+        }
+    }
+
+    public Optional<Long> getVersion(Long roomId) {
+        return Optional.ofNullable(redisUtil.getData(VERSION_KEY_PREFIX + roomId)).map(Long::valueOf);
+    }
+
+    public void putVersion(Long roomId, long feedsVersion) {
+        redisUtil.setDataExpire(VERSION_KEY_PREFIX + roomId, String.valueOf(feedsVersion), VERSION_EXPIRE_SECOND);
+    }
+
+    /**
+     * 피드 버전이 바뀐 뒤 호출해서 캐시된 버전과 L2 의 이전 버전 응답을 지움
+     */
+    public void evict(Long roomId) {
+        redisUtil.deleteData(VERSION_KEY_PREFIX + roomId);
+        redisUtil.deleteData(KEY_PREFIX + roomId);
+    }
+
+    private String toLocalKey(Long roomId, long feedsVersion, int size) {
+        return roomId + ":" + toHashKey(feedsVersion, size);
+    }
+
+    private String toHashKey(long feedsVersion, int size) {
+        return feedsVersion + ":" + size;
+    }
+}
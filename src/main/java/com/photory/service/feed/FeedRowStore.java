@@ -0,0 +1,132 @@
+package com.photory.service.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.photory.common.util.RedisUtil;
+import com.photory.controller.feed.dto.response.FeedsInfoResponse;
+import com.photory.domain.collection.FeedImageCollection;
+import com.photory.domain.feed.dto.FeedInfoDto;
+import com.photory.domain.feed.repository.FeedRepository;
+import com.photory.domain.feedimage.repository.FeedImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 목록 한 줄 (피드 정보 + 목록용 이미지 주소) 을 피드 id 별로 Redis 에 보관
+ * 방 타임라인에서 꺼낸 피드 id 들을 MGET 한 번으로 채우고, 없는 피드만 DB 에서 읽어서 다시 저장
+ * 피드 수정, 썸네일 생성 때 다시 저장하고 피드 삭제 때 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedRowStore {
+
+    private static final String KEY_PREFIX = "feed:row:";
+    private static final long EXPIRE_SECOND = 60L * 60;
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final FeedRepository feedRepository;
+    private final FeedImageRepository feedImageRepository;
+
+    /**
+     * 피드 id 순서대로 목록 한 줄을 반환 (이미 삭제된 피드는 빠짐)
+     */
+    public List<FeedsInfoResponse> findRows(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> values = redisUtil.multiGetData(feedIds.stream()
+                .map(this::toKey)
+                .collect(Collectors.toList()));
+
+        Map<Long, FeedsInfoResponse> rows = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < feedIds.size(); i++) {
+            FeedsInfoResponse row = values == null ? null : read(values.get(i));
+            if (row == null) {
+                missingIds.add(feedIds.get(i));
+            } else {
+                rows.put(feedIds.get(i), row);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            load(feedRepository.findFeedInfosByIdIn(missingIds))
+                    .forEach(row -> rows.put(row.getFeedId(), row));
+        }
+
+        return feedIds.stream()
+                .filter(rows::containsKey)
+                .map(rows::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * DB 에서 읽은 피드들의 이미지 주소를 한 번에 조회해서 목록 한 줄로 만들고 Redis 에 저장 (피드 순서 유지)
+     */
+    public List<FeedsInfoResponse> load(List<FeedInfoDto> feeds) {
+        if (feeds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        FeedImageCollection feedImages = FeedImageCollection.of(feeds.stream()
+                .map(FeedInfoDto::getFeedId)
+                .collect(Collectors.toList()), feedImageRepository);
+        List<FeedsInfoResponse> rows = feeds.stream()
+                .map(feed -> FeedsInfoResponse.of(feed, feedImages.getImagesByFeedId(feed.getFeedId())))
+                .collect(Collectors.toList());
+
+        Map<String, String> values = new LinkedHashMap<>();
+        for (FeedsInfoResponse row : rows) {
+            try {
+                values.put(toKey(row.getFeedId()), objectMapper.writeValueAsString(row));
+            } catch (JsonProcessingException e) {
+                log.warn("피드 ({}) 목록 캐시를 저장하는 중 에러가 발생하였습니다.", row.getFeedId(), e);
+            }
+        }
+        redisUtil.multiSetDataExpire(values, EXPIRE_SECOND);
+
+        return rows;
+    }
+
+    /**
+     * 피드 내용이나 이미지 주소가 바뀐 경우 DB 에서 다시 읽어서 저장
+     */
+    public void refresh(List<Long> feedIds) {
+        if (feedIds.isEmpty()) {
+            return;
+        }
+        load(feedRepository.findFeedInfosByIdIn(feedIds));
+    }
+
+    public void evict(Long feedId) {
+        redisUtil.deleteData(toKey(feedId));
+    }
+
+    private FeedsInfoResponse read(String json) {
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, FeedsInfoResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("피드 목록 캐시를 읽는 중 에러가 발생하였습니다.", e);
+            return null;
+        }
+    }
+
+    private String toKey(Long feedId) {
+        return KEY_PREFIX + feedId;
+    }
+}
@@ -1,113 +1,341 @@
 package com.photory.service.feed;
 
 import com.photory.common.exception.model.ForbiddenException;
+import com.photory.common.exception.model.InternalServerException;
 import com.photory.common.exception.model.NotFoundException;
+import com.photory.common.exception.model.ValidationException;
 import com.photory.controller.feed.dto.request.DeleteFeedRequestDto;
 import com.photory.controller.feed.dto.request.ModifyFeedRequestDto;
+import com.photory.controller.feed.dto.response.FeedsInfoResponse;
 import com.photory.controller.feed.dto.response.GetFeedResponse;
 import com.photory.controller.feed.dto.response.GetFeedsResponse;
 import com.photory.controller.feed.dto.response.ModifyFeedResponse;
 import com.photory.domain.collection.FeedImageCollection;
 import com.photory.domain.common.collection.ScrollPaginationCollection;
 import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.dto.FeedDetailDto;
+import com.photory.domain.feed.dto.FeedInfoDto;
+import com.photory.domain.feed.dto.FeedVersionDto;
 import com.photory.domain.feed.repository.FeedRepository;
 import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.dto.FeedImageUrlDto;
 import com.photory.domain.feedimage.repository.FeedImageRepository;
-import com.photory.domain.participate.Participate;
 import com.photory.domain.participate.repository.ParticipateRepository;
 import com.photory.domain.room.Room;
 import com.photory.domain.room.repository.RoomRepository;
 import com.photory.domain.user.User;
-import com.photory.domain.user.repository.UserRepository;
-import com.photory.service.image.S3Service;
+import com.photory.service.image.ImageObjectService;
+import com.photory.service.image.ImageVariantService;
+import com.photory.service.room.ParticipationCache;
+import com.photory.service.user.UserCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
+import org.apache.commons.fileupload.FileUploadBase;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.util.Streams;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.photory.common.exception.ErrorCode.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FeedService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final RoomRepository roomRepository;
     private final ParticipateRepository participateRepository;
     private final FeedRepository feedRepository;
     private final FeedImageRepository feedImageRepository;
-    private final S3Service s3Service;
+    private final ImageObjectService imageObjectService;
+    private final ImageVariantService imageVariantService;
+    private final FeedPageCache feedPageCache;
+    private final RoomTimelineStore roomTimelineStore;
+    private final FeedRowStore feedRowStore;
+    private final ParticipationCache participationCache;
+    private final TransactionTemplate transactionTemplate;
 
     public void createFeed(String userEmail, List<MultipartFile> images, Long roomId, String title, String content) {
-        User user = FeedServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = FeedServiceUtils.findUserByEmail(userCache, userEmail);
+        Room room = findParticipatingRoom(user, roomId);
+
+        List<String> fileUrlList = imageObjectService.uploadFile(images);
+
+        saveFeedOrRelease(room, user, title, content, fileUrlList);
+    }
+
+    /**
+     * multipart 본문을 파트 단위로 읽으면서 이미지를 S3 로 바로 업로드
+     * roomId, title, content 필드는 이미지 파트보다 먼저 전달되어야 함
+     */
+    public void createFeedStreaming(String userEmail, FileItemIterator parts) {
+        User user = FeedServiceUtils.findUserByEmail(userCache, userEmail);
+
+        Map<String, String> fields = new HashMap<>();
+        Room room = null;
+        List<String> fileUrlList = new ArrayList<>();
+
+        try {
+            while (parts.hasNext()) {
+                FileItemStream part = parts.next();
+
+                if (part.isFormField()) {
+                    try (InputStream inputStream = part.openStream()) {
+                        fields.put(part.getFieldName(), Streams.asString(inputStream, StandardCharsets.UTF_8.name()));
+                    }
+                    continue;
+                }
+
+                // 첫 이미지를 업로드하기 전에 요청 필드와 방 참여 여부를 확인
+                if (room == null) {
+                    room = findParticipatingRoom(user, fields);
+                }
+
+                try (InputStream inputStream = part.openStream()) {
+                    fileUrlList.add(imageObjectService.uploadStream(inputStream, part.getName(), part.getContentType()));
+                }
+            }
+
+            if (room == null) {
+                room = findParticipatingRoom(user, fields);
+            }
+        } catch (FileUploadException | FileUploadBase.FileUploadIOException e) {
+            deleteUploadedFiles(fileUrlList);
+            throw new ValidationException(String.format("잘못된 multipart 요청입니다. (%s)", e.getMessage()));
+        } catch (IOException e) {
+            deleteUploadedFiles(fileUrlList);
+            throw new InternalServerException("multipart 요청을 읽는 중 에러가 발생하였습니다.");
+        } catch (RuntimeException e) {
+            deleteUploadedFiles(fileUrlList);
+            throw e;
+        }
+
+        saveFeedOrRelease(room, user, fields.get("title"), fields.get("content"), fileUrlList);
+    }
+
+    private Room findParticipatingRoom(User user, Map<String, String> fields) {
+        String title = fields.get("title");
+        String content = fields.get("content");
+        if (!fields.containsKey("roomId") || title == null || title.isBlank() || content == null) {
+            throw new ValidationException("roomId, title, content 는 이미지보다 먼저 입력되어야 합니다.", VALIDATION_REQUEST_MISSING_EXCEPTION);
+        }
+
+        try {
+            return findParticipatingRoom(user, Long.valueOf(fields.get("roomId")));
+        } catch (NumberFormatException e) {
+            throw new ValidationException(String.format("잘못된 방 id (%s) 입니다.", fields.get("roomId")), VALIDATION_WRONG_TYPE_EXCEPTION);
+        }
+    }
+
+    private Room findParticipatingRoom(User user, Long roomId) {
         Room room = FeedServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
         // 참여하고 있는 방이 아니면 피드 생성할 수 없음
-        Optional<Participate> participate = participateRepository.findByRoomAndUser(room, user);
-        if (participate.isEmpty()) {
+        if (!participationCache.isParticipating(room.getId(), user.getId())) {
             throw new ForbiddenException(String.format("방 (%s) 에 유저 (%s) 가 참여중이 아닙니다.", room.getId(), user.getId()), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
         }
 
-        Feed feed = Feed.of(room, user, title, content);
+        return room;
+    }
 
-        Feed savedFeed = feedRepository.save(feed);
+    // 피드를 저장하지 못하면 업로드하면서 늘린 이미지 참조 수를 되돌려서 삭제 대기 목록으로 보냄
+    private void saveFeedOrRelease(Room room, User user, String title, String content, List<String> fileUrlList) {
+        try {
+            saveFeed(room, user, title, content, fileUrlList);
+        } catch (RuntimeException e) {
+            deleteUploadedFiles(fileUrlList);
+            throw e;
+        }
+    }
 
-        List<String> fileUrlList = s3Service.uploadFile(images);
-        fileUrlList.forEach(file -> {
-            FeedImage feedImage = FeedImage.of(savedFeed, file);
+    // 피드, 개수, 이미지는 한 트랜잭션으로 저장하고, 타임라인과 캐시 갱신, 썸네일 생성은 커밋된 뒤에만 실행
+    private void saveFeed(Room room, User user, String title, String content, List<String> fileUrlList) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Feed savedFeed = feedRepository.save(Feed.of(room, user, title, content));
+            roomRepository.increaseFeedsCount(room.getId(), savedFeed.getId());
+
+            // ID 를 미리 발급하므로 이미지들은 한 트랜잭션에서 배치 insert 로 저장됨
+            List<FeedImage> feedImages = fileUrlList.stream()
+                    .map(file -> FeedImage.of(savedFeed, file))
+                    .collect(Collectors.toList());
+            feedImageRepository.saveAll(feedImages);
+
+            afterCommit(() -> {
+                roomTimelineStore.push(room.getId(), savedFeed.getId());
+                feedRowStore.load(List.of(new FeedInfoDto(savedFeed.getId(), room.getId(), user.getId(), title, content,
+                        savedFeed.getCreatedAt(), savedFeed.getUpdatedAt())));
+                feedPageCache.evict(room.getId());
+                imageVariantService.createVariants(room.getId(), feedImages);
+            });
+        });
+    }
 
-            feedImageRepository.save(feedImage);
+    /**
+     * 커밋된 뒤에 Redis 반영처럼 DB 밖의 작업을 실행
+     * 실패해도 이미 커밋된 요청은 성공으로 두고 (타임라인은 방의 최신 피드와 비교해서, 캐시는 피드 버전으로 어긋남을 걸러냄) 로그만 남김
+     */
+    private void afterCommit(Runnable task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.warn("피드 변경을 커밋한 뒤 캐시를 갱신하는 중 에러가 발생하였습니다", e);
+                }
+            }
         });
     }
 
-    public GetFeedResponse getFeed(String userEmail, Long feedId) {
-        User user = FeedServiceUtils.findUserByEmail(userRepository, userEmail);
+    private void deleteUploadedFiles(List<String> fileUrlList) {
+        try {
+            imageObjectService.release(fileUrlList);
+        } catch (RuntimeException e) {
+            log.warn("업로드 실패 후 파일 ({}) 을 정리하는 중 에러가 발생하였습니다", fileUrlList, e);
+        }
+    }
 
-        Optional<Feed> feed = feedRepository.findById(feedId);
+    /**
+     * 피드 상세 ETag (피드 수정 시각 + 미리보기가 만들어진 이미지 수)
+     * 이미지와 본문을 조회하지 않고 권한 확인과 버전 계산만 함
+     */
+    public String getFeedETag(Long userId, Long feedId) {
+        Optional<FeedVersionDto> version = feedRepository.findFeedVersionById(feedId);
+        if (version.isEmpty()) {
+            throw new NotFoundException(String.format("존재하지 않는 피드 (%s) 입니다", feedId), NOT_FOUND_FEED_EXCEPTION);
+        }
+
+        Long roomId = version.get().getRoomId();
+        if (!participationCache.isParticipating(roomId, userId)) {
+            throw new ForbiddenException(String.format("방 (%s) 에 유저 (%s) 가 참여중이 아닙니다.", roomId, userId), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
+        }
+
+        return String.format("feed-%s-%s-%s", feedId, version.get().getUpdatedAt(), version.get().getPreviewCount());
+    }
+
+    public GetFeedResponse getFeed(Long userId, Long feedId) {
+        Optional<FeedDetailDto> feed = feedRepository.findFeedDetailById(feedId);
         if (feed.isEmpty()) {
             throw new NotFoundException(String.format("존재하지 않는 피드 (%s) 입니다", feedId), NOT_FOUND_FEED_EXCEPTION);
         }
 
-        Room room = feed.get().getRoom();
+        Long roomId = feed.get().getRoomId();
 
         //방에 참가한 사람만 피드 조회할 수 있음
-        Optional<Participate> participating = participateRepository.findByRoomAndUser(room, user);
-        if (participating.isEmpty()) {
-            throw new ForbiddenException(String.format("방 (%s) 에 유저 (%s) 가 참여중이 아닙니다.", room.getId(), user.getId()), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
+        if (!participationCache.isParticipating(roomId, userId)) {
+            throw new ForbiddenException(String.format("방 (%s) 에 유저 (%s) 가 참여중이 아닙니다.", roomId, userId), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
         }
 
-        ArrayList<String> imageUrls = new ArrayList<>();
-        ArrayList<FeedImage> images = feedImageRepository.findAllByFeed(feed.get());
-        images.forEach(image -> {
-            imageUrls.add(imageUrls.size(), image.getImageUrl());
-        });
+        ArrayList<String> imageUrls = feedImageRepository.findImageUrlsByFeedIds(List.of(feedId)).stream()
+                .map(FeedImageUrlDto::getDetailImageUrl)
+                .collect(Collectors.toCollection(ArrayList::new));
 
         GetFeedResponse response = GetFeedResponse.of(feed.get(), imageUrls);
 
         return response;
     }
 
-    public GetFeedsResponse getFeeds(String userEmail, Long roomId, int size, Long lastFeedId) {
-        User user = FeedServiceUtils.findUserByEmail(userRepository, userEmail);
+    /**
+     * 방의 피드 목록 ETag (피드 생성, 수정, 삭제, 썸네일 생성 때마다 증가하는 방의 피드 버전)
+     */
+    public String getFeedsETag(Long userId, Long roomId) {
+        long feedsVersion = findFeedsVersion(roomId);
+
+        // 방에 참가한 사람만 피드 목록 버전을 확인할 수 있음 (304 응답으로 목록 변경 여부가 드러나지 않도록)
+        if (!participationCache.isParticipating(roomId, userId)) {
+            throw new ForbiddenException(String.format("방 (%s) 에 유저 (%s) 가 참여중이 아닙니다.", roomId, userId), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
+        }
+
+        return String.format("feeds-%s-%s", roomId, feedsVersion);
+    }
+
+    public GetFeedsResponse getFeeds(Long userId, Long roomId, int size, Long lastFeedId) {
+        // 첫 스크롤은 캐시된 피드 버전으로 캐시된 응답이 있으면 방을 조회하지 않고 바로 반환
+        if (lastFeedId == null) {
+            Optional<GetFeedsResponse> cached = feedPageCache.getVersion(roomId)
+                    .flatMap(feedsVersion -> feedPageCache.get(roomId, feedsVersion, size));
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         Room room = FeedServiceUtils.findRoomByRoomId(roomRepository, roomId);
+        List<FeedsInfoResponse> feeds = findFeedRows(room, size + 1, lastFeedId);
 
-        PageRequest pageRequest = PageRequest.of(0, size + 1);
-        Page<Feed> page = feedRepository.findAllByRoomAndIdLessThanOrderByIdDesc(room, lastFeedId, pageRequest);
-        List<Feed> feeds = page.getContent();
+        GetFeedsResponse response = GetFeedsResponse.of(ScrollPaginationCollection.of(feeds, size), room.getFeedsCount());
 
-        ScrollPaginationCollection<Feed> feedsCursor = ScrollPaginationCollection.of(feeds, size);
-        GetFeedsResponse response = GetFeedsResponse.of(feedsCursor, FeedImageCollection.of(feeds, feedImageRepository), feedRepository.countAllByRoom(room));
+        if (lastFeedId == null) {
+            feedPageCache.putVersion(roomId, room.getFeedsVersion());
+            feedPageCache.put(roomId, room.getFeedsVersion(), size, response);
+        }
 
         return response;
     }
 
+    // Redis 에 캐시된 방의 피드 버전을 읽고, 없으면 방을 조회해서 캐시
+    private long findFeedsVersion(Long roomId) {
+        Optional<Long> cached = feedPageCache.getVersion(roomId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Room room = FeedServiceUtils.findRoomByRoomId(roomRepository, roomId);
+        feedPageCache.putVersion(roomId, room.getFeedsVersion());
+        return room.getFeedsVersion();
+    }
+
+    // 방 타임라인 (Redis) 에서 피드 id 를 꺼내 Redis 의 목록 한 줄로 채우고, 타임라인으로 답할 수 없는 경우에만 DB 에서 방 피드를 범위 조회
+    private List<FeedsInfoResponse> findFeedRows(Room room, int count, Long lastFeedId) {
+        Optional<List<Long>> feedIds = roomTimelineStore.findFeedIds(room.getId(), lastFeedId, count, room.getFeedsCount(), room.getLatestFeedId());
+        if (feedIds.isPresent()) {
+            return feedRowStore.findRows(feedIds.get());
+        }
+
+        // lastFeedId 가 없으면 첫 스크롤 조회 (타임라인이 없거나 어긋났으면 다시 만듦)
+        if (lastFeedId == null) {
+            roomTimelineStore.rebuild(room.getId(),
+                    () -> feedRepository.findFeedIdsByRoomId(room.getId(), PageRequest.of(0, roomTimelineStore.getCapacity())));
+            return feedRowStore.load(feedRepository.findFeedInfosByRoomId(room.getId(), PageRequest.of(0, count)));
+        }
+        return feedRowStore.load(feedRepository.findFeedInfosByRoomIdAndIdLessThan(room.getId(), lastFeedId, PageRequest.of(0, count)));
+    }
+
+    /**
+     * 참여 중인 모든 방의 피드를 최신순으로 합친 홈 타임라인 (피드 id 기준 커서 페이지네이션)
+     * 방마다 쿼리를 보내지 않고 한 번의 쿼리로 방별 최신 피드를 읽어서 병합
+     */
+    public GetFeedsResponse getHomeFeeds(Long userId, int size, Long lastFeedId) {
+        List<Long> roomIds = participateRepository.findRoomIdsByUserId(userId);
+        List<FeedInfoDto> feeds = feedRepository.findTimelineByRoomIds(roomIds, lastFeedId, size + 1);
+
+        ScrollPaginationCollection<FeedInfoDto> feedsCursor = ScrollPaginationCollection.of(feeds, size);
+        List<Long> feedIds = feedsCursor.getCurrentScrollItems().stream()
+                .map(FeedInfoDto::getFeedId)
+                .collect(Collectors.toList());
+        long totalElements = roomIds.isEmpty() ? 0L : participateRepository.sumFeedsCountByUserId(userId);
+
+        return GetFeedsResponse.of(feedsCursor, FeedImageCollection.of(feedIds, feedImageRepository), totalElements);
+    }
+
     public ModifyFeedResponse modifyFeed(String userEmail, ModifyFeedRequestDto request) {
-        User user = FeedServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = FeedServiceUtils.findUserByEmail(userCache, userEmail);
         Long feedId = request.getFeedId();
         String title = request.getTitle();
         String content = request.getContent();
@@ -118,7 +346,7 @@ public class FeedService {
         }
 
         // 피드 작성자가 아니면 수정할 수 없음
-        if (feed.get().getUser().getId() != user.getId()) {
+        if (!feed.get().getUser().getId().equals(user.getId())) {
             throw new ForbiddenException(String.format("유저 (%s) 는 피드 (%s) 의 작성자가 아닙니다.", user.getId(), feedId), FORBIDDEN_FEED_OWNER_EXCEPTION);
         }
 
@@ -126,11 +354,14 @@ public class FeedService {
         feed.get().setContent(content);
 
         Feed modified = feedRepository.save(feed.get());
+        roomRepository.increaseFeedsVersion(modified.getRoom().getId());
+        feedRowStore.refresh(List.of(feedId));
+        feedPageCache.evict(modified.getRoom().getId());
 
         ArrayList<String> imageUrls = new ArrayList<>();
         ArrayList<FeedImage> feedImages = feedImageRepository.findAllByFeed(feed.get());
         feedImages.forEach(image -> {
-            imageUrls.add(imageUrls.size(), image.getImageUrl());
+            imageUrls.add(imageUrls.size(), image.getDetailImageUrl());
         });
 
         ModifyFeedResponse response = ModifyFeedResponse.of(modified, imageUrls);
@@ -139,7 +370,7 @@ public class FeedService {
     }
 
     public void deleteFeed(String userEmail, DeleteFeedRequestDto request) {
-        User user = FeedServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = FeedServiceUtils.findUserByEmail(userCache, userEmail);
         Long feedId = request.getFeedId();
 
         Optional<Feed> feed = feedRepository.findById(feedId);
@@ -150,19 +381,36 @@ public class FeedService {
         Room room = feed.get().getRoom();
 
         // 피드 작성자가 방에 있을 때 피드 작성자가 아니면 삭제 불가능
-        Optional<Participate> participating = participateRepository.findByRoomAndUser(room, feed.get().getUser());
-        if (participating.isPresent() && feed.get().getUser().getId() != user.getId()) {
+        boolean participating = participationCache.isParticipating(room.getId(), feed.get().getUser().getId());
+        if (participating && !feed.get().getUser().getId().equals(user.getId())) {
             throw new ForbiddenException(String.format("유저 (%s) 는 피드 (%s) 의 작성자가 아닙니다.", user.getId(), feedId), FORBIDDEN_FEED_OWNER_EXCEPTION);
         }
 
-        ArrayList<FeedImage> feedImages = feedImageRepository.findAllByFeed(feed.get());
-        for (FeedImage image : feedImages) {
-            String date[] = image.getImageUrl().split(".com/");
-            s3Service.deleteFile(date[1]);
-            feedImageRepository.delete(image);
-        }
+        // 이미지, 피드, 개수는 한 트랜잭션으로 삭제하고, 타임라인과 캐시는 커밋된 뒤에 반영
+        List<String> imageUrls = transactionTemplate.execute(status -> {
+            ArrayList<FeedImage> feedImages = feedImageRepository.findAllByFeed(feed.get());
+            feedImageRepository.deleteAllInBatch(feedImages);
+
+            // 피드 삭제 (개수를 줄이면서 남은 피드로 최신 피드를 다시 계산하므로 먼저 반영)
+            feedRepository.delete(feed.get());
+            feedRepository.flush();
+            if (roomRepository.decreaseFeedsCount(room.getId()) == 0) {
+                roomRepository.increaseFeedsVersion(room.getId());
+            }
+
+            afterCommit(() -> {
+                roomTimelineStore.remove(room.getId(), feedId);
+                feedRowStore.evict(feedId);
+                feedPageCache.evict(room.getId());
+            });
+
+            return feedImages.stream()
+                    .map(FeedImage::getImageUrl)
+                    .collect(Collectors.toList());
+        });
 
-        // 피드 삭제
-        feedRepository.delete(feed.get());
+        // 다른 피드가 함께 쓰지 않는 이미지 파일만 삭제 대기 목록에 기록하고 ImageDeletionScheduler 가 모아서 삭제
+        // 참조 수 변경도 DB 쓰기이므로 afterCommit 이 아니라 트랜잭션이 끝난 뒤에 실행
+        imageObjectService.release(imageUrls);
     }
 }
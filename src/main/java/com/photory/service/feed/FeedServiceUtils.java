@@ -5,7 +5,7 @@ import com.photory.common.exception.model.UnAuthorizedException;
 import com.photory.domain.room.Room;
 import com.photory.domain.room.repository.RoomRepository;
 import com.photory.domain.user.User;
-import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.user.UserCache;
 import lombok.NoArgsConstructor;
 
 import java.util.Optional;
@@ -15,8 +15,8 @@ import static com.photory.common.exception.ErrorCode.NOT_FOUND_ROOM_EXCEPTION;
 @NoArgsConstructor
 public class FeedServiceUtils {
 
-    public static User findUserByEmail(UserRepository userRepository, String userEmail) {
-        Optional<User> user = userRepository.findByEmail(userEmail);
+    public static User findUserByEmail(UserCache userCache, String userEmail) {
+        Optional<User> user = userCache.findByEmail(userEmail);
 
         if (user.isEmpty()) {
             throw new UnAuthorizedException("로그인 오류입니다.");
@@ -0,0 +1,53 @@
+package com.photory.service.feed;
+
+import com.photory.domain.room.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedsCountScheduler {
+
+    private final RoomRepository roomRepository;
+
+    @Value("${scheduler.feeds-count.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * 피드 개수 컬럼이 추가되기 전에 만들어진 방도 바로 올바른 개수를 응답하도록 서버가 뜰 때 한 번 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileFeedsCount();
+    }
+
+    /**
+     * 방마다 유지하는 피드 개수, 최신 피드를 실제 피드로 주기적으로 보정 (매일 새벽 4시)
+     * 방 테이블 전체를 한 번에 잠그지 않도록 방 id 순서로 나누어 보정하고, 값이 다른 방만 갱신
+     */
+    @Scheduled(cron = "${scheduler.feeds-count.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcileFeedsCount() {
+        int reconciled = 0;
+        Long lastRoomId = 0L;
+        while (true) {
+            List<Long> roomIds = roomRepository.findIdsByIdGreaterThan(lastRoomId, PageRequest.of(0, batchSize));
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            Long toRoomId = roomIds.get(roomIds.size() - 1);
+            reconciled += roomRepository.reconcileFeedsCount(roomIds.get(0), toRoomId);
+            lastRoomId = toRoomId;
+        }
+        log.info("방 ({}) 개의 피드 개수를 보정하였습니다.", reconciled);
+    }
+}
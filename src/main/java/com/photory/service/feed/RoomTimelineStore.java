@@ -0,0 +1,126 @@
+package com.photory.service.feed;
+
+import com.photory.common.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 방마다 최신 피드 id 를 Redis sorted set 에 미리 쌓아두는 타임라인 (피드 작성 시 추가, 삭제 시 제거)
+ * 피드 id (Snowflake) 는 double 점수로 표현하면 정밀도가 부족하므로 점수는 모두 0 으로 두고
+ * 19 자리로 맞춘 id 문자열의 사전순으로 정렬
+ * 추가, 삭제할 때마다 방의 쓰기 순번을 올려서, DB 를 읽는 동안 바뀐 타임라인을 예전 목록으로 다시 만들지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomTimelineStore {
+
+    private static final String KEY_PREFIX = "timeline:room:";
+    private static final String SEQUENCE_KEY_SUFFIX = ":seq";
+    private static final long EXPIRE_SECOND = 60L * 60 * 24;
+
+    // 쓰기 순번을 올리고, 타임라인이 있을 때만 추가한 뒤 가장 오래된 id 부터 잘라서 최대 개수를 유지
+    // 만료 시간은 다시 만들 때만 정해서, 어긋난 타임라인이 있더라도 하루 안에 DB 기준으로 다시 만들어지도록 함
+    private static final RedisScript<Long> PUSH_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('ZADD', KEYS[1], 0, ARGV[1]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[2]) - 1) " +
+            "return 1", Long.class);
+
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return redis.call('ZREM', KEYS[1], ARGV[1])", Long.class);
+
+    // DB 를 읽기 전에 확인한 쓰기 순번이 그대로일 때만 다시 만듦 (그 사이 추가, 삭제된 피드를 덮어쓰지 않도록)
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return -1 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 3, #ARGV do redis.call('ZADD', KEYS[1], 0, ARGV[i]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return #ARGV - 2", Long.class);
+
+    // 타임라인이 없거나, 개수가 방의 피드 수와 다르거나, 가장 최신 id 가 방의 최신 피드와 다르거나, 잘려나간 범위까지 요청하면 nil (DB 에서 조회해야 함)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RANGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "local size = redis.call('ZCARD', KEYS[1]) " +
+            "if size ~= tonumber(ARGV[3]) then return false end " +
+            "if redis.call('ZRANGE', KEYS[1], -1, -1)[1] ~= ARGV[5] then return false end " +
+            "local ids = redis.call('ZREVRANGEBYLEX', KEYS[1], ARGV[1], '-', 'LIMIT', 0, ARGV[2]) " +
+            "if #ids < tonumber(ARGV[2]) and size >= tonumber(ARGV[4]) then return false end " +
+            "return ids", List.class);
+
+    private final RedisUtil redisUtil;
+
+    @Value("${timeline.room.capacity:1000}")
+    private int capacity;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void push(Long roomId, Long feedId) {
+        redisUtil.executeScript(PUSH_SCRIPT, keys(roomId),
+                toMember(feedId), String.valueOf(capacity), String.valueOf(EXPIRE_SECOND));
+    }
+
+    public void remove(Long roomId, Long feedId) {
+        redisUtil.executeScript(REMOVE_SCRIPT, keys(roomId), toMember(feedId), String.valueOf(EXPIRE_SECOND));
+    }
+
+    /**
+     * DB 에서 읽은 방의 최신 피드 id 들로 타임라인을 다시 만듦
+     * 읽는 동안 피드가 추가, 삭제되었으면 다시 만들지 않고 false 를 반환
+     */
+    public boolean rebuild(Long roomId, Supplier<List<Long>> feedIdsLoader) {
+        String sequence = Optional.ofNullable(redisUtil.getData(KEY_PREFIX + roomId + SEQUENCE_KEY_SUFFIX)).orElse("0");
+        List<Long> feedIds = feedIdsLoader.get();
+
+        List<String> args = new ArrayList<>(feedIds.size() + 2);
+        args.add(String.valueOf(EXPIRE_SECOND));
+        args.add(sequence);
+        feedIds.forEach(feedId -> args.add(toMember(feedId)));
+        Long rebuilt = redisUtil.executeScript(REBUILD_SCRIPT, keys(roomId), args.toArray(String[]::new));
+        return rebuilt != null && rebuilt >= 0;
+    }
+
+    /**
+     * lastFeedId 보다 작은 피드 id 를 최신순으로 count 개 조회
+     * 타임라인만으로 답할 수 없으면 (캐시 없음, 방의 피드 수나 최신 피드와 불일치, 보관 범위보다 오래된 피드) empty
+     */
+    public Optional<List<Long>> findFeedIds(Long roomId, Long lastFeedId, int count, long feedsCount, Long latestFeedId) {
+        String max = lastFeedId == null ? "+" : "(" + toMember(lastFeedId);
+        long expectedSize = Math.min(feedsCount, capacity);
+        String latest = latestFeedId == null ? "" : toMember(latestFeedId);
+
+        @SuppressWarnings("unchecked")
+        List<String> members = redisUtil.executeScript(RANGE_SCRIPT, List.of(KEY_PREFIX + roomId),
+                max, String.valueOf(count), String.valueOf(expectedSize), String.valueOf(capacity), latest);
+        if (members == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList()));
+    }
+
+    private List<String> keys(Long roomId) {
+        return List.of(KEY_PREFIX + roomId, KEY_PREFIX + roomId + SEQUENCE_KEY_SUFFIX);
+    }
+
+    private String toMember(Long feedId) {
+        return String.format("%019d", feedId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.photory.service.image;
+
+import com.amazonaws.SdkClientException;
+import com.photory.common.util.RedisUtil;
+import com.photory.domain.imagedeletion.ImageDeletion;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDeletionScheduler {
+
+    private static final int MAX_RETRY_COUNT = 5;
+
+    // 여러 서버 중 한 서버만 삭제 대기 목록을 처리 (한 번 처리하는 시간보다 충분히 길게 잡고, 서버가 죽어도 만료되면 다른 서버가 이어받음)
+    private static final String LOCK_KEY = "image:deletion:lock";
+    private static final long LOCK_EXPIRE_SECOND = 60L;
+
+    // 자신이 잡은 락일 때만 해제 (만료 후 다른 서버가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final S3Service s3Service;
+    private final RedisUtil redisUtil;
+
+    /**
+     * 삭제 대기 목록의 이미지 파일을 최대 1000개씩 모아서 S3 에서 삭제
+     * 삭제에 실패한 파일은 다음 실행 때 다시 시도하고, 최대 횟수를 넘으면 목록에서 제외
+     * 다른 서버가 처리 중이면 (락을 잡지 못하면) 이번 실행은 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${scheduler.image-deletion.fixed-delay:10000}",
+            initialDelayString = "${scheduler.image-deletion.initial-delay:10000}")
+    public void deleteImages() {
+        String lockOwner = UUID.randomUUID().toString();
+        if (!redisUtil.setDataIfAbsentExpire(LOCK_KEY, lockOwner, LOCK_EXPIRE_SECOND)) {
+            return;
+        }
+
+        try {
+            deleteBatch();
+        } finally {
+            redisUtil.executeScript(RELEASE_SCRIPT, List.of(LOCK_KEY), lockOwner);
+        }
+    }
+
+    private void deleteBatch() {
+        List<ImageDeletion> deletions = imageDeletionRepository.findTop1000ByOrderByIdAsc();
+        if (deletions.isEmpty()) {
+            return;
+        }
+
+        Map<ImageDeletion, String> fileNames = new HashMap<>();
+        List<ImageDeletion> completed = new ArrayList<>();
+        for (ImageDeletion deletion : deletions) {
+            try {
+                fileNames.put(deletion, s3Service.getFileName(deletion.getImageUrl()));
+            } catch (IllegalArgumentException e) {
+                log.error("잘못된 이미지 주소 ({}) 는 삭제 대기 목록에서 제외합니다.", deletion.getImageUrl());
+                completed.add(deletion);
+            }
+        }
+
+        Set<String> failedFileNames;
+        try {
+            failedFileNames = new HashSet<>(s3Service.deleteFiles(new ArrayList<>(new HashSet<>(fileNames.values()))));
+        } catch (SdkClientException e) {
+            log.warn("이미지 파일 ({}) 개를 삭제하는 중 에러가 발생하였습니다.", fileNames.size(), e);
+            failedFileNames = new HashSet<>(fileNames.values());
+        }
+
+        List<ImageDeletion> retries = new ArrayList<>();
+        for (Map.Entry<ImageDeletion, String> entry : fileNames.entrySet()) {
+            ImageDeletion deletion = entry.getKey();
+
+            if (!failedFileNames.contains(entry.getValue())) {
+                completed.add(deletion);
+            } else if (deletion.getRetryCount() + 1 >= MAX_RETRY_COUNT) {
+                log.error("이미지 파일 ({}) 삭제를 {} 번 실패하여 삭제 대기 목록에서 제외합니다.", entry.getValue(), MAX_RETRY_COUNT);
+                completed.add(deletion);
+            } else {
+                deletion.setRetryCount(deletion.getRetryCount() + 1);
+                retries.add(deletion);
+            }
+        }
+
+        imageDeletionRepository.deleteAllInBatch(completed);
+        imageDeletionRepository.saveAll(retries);
+    }
+}
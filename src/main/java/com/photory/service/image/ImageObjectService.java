@@ -0,0 +1,162 @@
+package com.photory.service.image;
+
+import com.photory.common.exception.model.InternalServerException;
+import com.photory.domain.imagedeletion.ImageDeletion;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import com.photory.domain.imageobject.ImageObject;
+import com.photory.domain.imageobject.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 내용 해시로 중복 업로드를 막고, 같은 파일을 함께 쓰는 피드 수를 참조 수로 관리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageObjectService {
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final S3Service s3Service;
+    private final ImageVariantService imageVariantService;
+    private final ImageObjectRepository imageObjectRepository;
+    private final ImageDeletionRepository imageDeletionRepository;
+
+    /**
+     * 업로드 전에 내용 해시를 계산해서 이미 저장된 이미지는 업로드하지 않고 기존 파일 주소를 사용
+     */
+    public List<String> uploadFile(List<MultipartFile> multipartFile) {
+        List<String> contentHashes = multipartFile.stream()
+                .map(this::hash)
+                .collect(Collectors.toList());
+
+        String[] fileUrls = new String[multipartFile.size()];
+        List<Integer> missingIndexes = new ArrayList<>();
+        try {
+            for (int i = 0; i < multipartFile.size(); i++) {
+                Optional<String> existing = acquire(contentHashes.get(i));
+                if (existing.isPresent()) {
+                    fileUrls[i] = existing.get();
+                } else {
+                    missingIndexes.add(i);
+                }
+            }
+
+            List<String> uploadedUrls = s3Service.uploadFile(missingIndexes.stream()
+                    .map(multipartFile::get)
+                    .collect(Collectors.toList()));
+
+            for (int i = 0; i < missingIndexes.size(); i++) {
+                int index = missingIndexes.get(i);
+                fileUrls[index] = register(contentHashes.get(index), uploadedUrls.get(i));
+            }
+        } catch (RuntimeException e) {
+            release(Stream.of(fileUrls).filter(Objects::nonNull).collect(Collectors.toList()));
+            throw e;
+        }
+
+        return List.of(fileUrls);
+    }
+
+    /**
+     * S3 로 업로드하면서 내용 해시를 계산하고, 이미 저장된 이미지였으면 방금 올린 파일 대신 기존 파일 주소를 사용
+     */
+    public String uploadStream(InputStream inputStream, String originalFileName, String contentType) throws IOException {
+        MessageDigest digest = newDigest();
+        String fileUrl = s3Service.uploadStream(new DigestInputStream(inputStream, digest), originalFileName, contentType);
+
+        String contentHash = toHex(digest.digest());
+        Optional<String> existing = acquire(contentHash);
+        if (existing.isPresent()) {
+            imageDeletionRepository.save(ImageDeletion.of(fileUrl));
+            return existing.get();
+        }
+        return register(contentHash, fileUrl);
+    }
+
+    /**
+     * 이미지 참조를 해제하고, 더 이상 참조하는 피드가 없는 파일은 썸네일, 미리보기와 함께 삭제 대기 목록에 추가
+     * 해시 목록에 없는 파일 (중복 제거 이전에 올라간 파일) 은 바로 삭제 대상
+     */
+    public void release(List<String> fileUrls) {
+        List<ImageDeletion> deletions = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (imageObjectRepository.decreaseRefCount(fileUrl) == 1 && imageObjectRepository.deleteUnreferenced(fileUrl) == 0) {
+                continue;
+            }
+
+            deletions.add(ImageDeletion.of(fileUrl));
+            imageVariantService.getVariantUrls(fileUrl).forEach(variantUrl -> deletions.add(ImageDeletion.of(variantUrl)));
+        }
+        imageDeletionRepository.saveAll(deletions);
+    }
+
+    private Optional<String> acquire(String contentHash) {
+        if (imageObjectRepository.increaseRefCount(contentHash) == 0) {
+            return Optional.empty();
+        }
+        return imageObjectRepository.findByContentHash(contentHash).map(ImageObject::getImageUrl);
+    }
+
+    // 새로 올린 파일을 해시 목록에 등록하고, 동시에 같은 이미지가 먼저 등록되었으면 그 파일을 사용
+    private String register(String contentHash, String fileUrl) {
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            try {
+                imageObjectRepository.saveAndFlush(ImageObject.of(contentHash, fileUrl));
+                return fileUrl;
+            } catch (DataIntegrityViolationException e) {
+                Optional<String> existing = acquire(contentHash);
+                if (existing.isPresent()) {
+                    imageDeletionRepository.save(ImageDeletion.of(fileUrl));
+                    return existing.get();
+                }
+            }
+        }
+
+        log.warn("이미지 ({}) 를 해시 목록에 등록하지 못하여 중복 제거 없이 사용합니다.", fileUrl);
+        return fileUrl;
+    }
+
+    private String hash(MultipartFile file) {
+        MessageDigest digest = newDigest();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new InternalServerException(String.format("파일 (%s) 입력 스트림을 가져오는 중 에러가 발생하였습니다", file.getOriginalFilename()));
+        }
+        return toHex(digest.digest());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
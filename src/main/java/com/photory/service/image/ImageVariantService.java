@@ -0,0 +1,130 @@
+package com.photory.service.image;
+
+import com.photory.common.util.ImageResizeUtil;
+import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.FeedImageVariant;
+import com.photory.domain.feedimage.repository.FeedImageRepository;
+import com.photory.domain.imagedeletion.ImageDeletion;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import com.photory.domain.imageobject.repository.ImageObjectRepository;
+import com.photory.domain.room.repository.RoomRepository;
+import com.photory.service.feed.FeedPageCache;
+import com.photory.service.feed.FeedRowStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private final S3Service s3Service;
+    private final FeedImageRepository feedImageRepository;
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final ImageObjectRepository imageObjectRepository;
+    private final RoomRepository roomRepository;
+    private final FeedPageCache feedPageCache;
+    private final FeedRowStore feedRowStore;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+    public ImageVariantService(S3Service s3Service,
+                               FeedImageRepository feedImageRepository,
+                               ImageDeletionRepository imageDeletionRepository,
+                               ImageObjectRepository imageObjectRepository,
+                               RoomRepository roomRepository,
+                               FeedPageCache feedPageCache,
+                               FeedRowStore feedRowStore,
+                               @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+        this.s3Service = s3Service;
+        this.feedImageRepository = feedImageRepository;
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.imageObjectRepository = imageObjectRepository;
+        this.roomRepository = roomRepository;
+        this.feedPageCache = feedPageCache;
+        this.feedRowStore = feedRowStore;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    /**
+     * 피드 이미지의 썸네일, 미리보기 이미지를 비동기로 만들어서 원본 옆에 저장
+     * 만들어지기 전이나 실패한 경우에는 응답에 원본 이미지가 그대로 나감
+     */
+    public void createVariants(Long roomId, List<FeedImage> feedImages) {
+        if (feedImages.isEmpty()) {
+            return;
+        }
+
+        try {
+            imageVariantExecutor.execute(() -> {
+                feedImages.forEach(this::createVariants);
+                roomRepository.increaseFeedsVersion(roomId);
+                feedRowStore.refresh(feedImages.stream()
+                        .map(feedImage -> feedImage.getFeed().getId())
+                        .distinct()
+                        .collect(Collectors.toList()));
+                feedPageCache.evict(roomId);
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("이미지 처리 대기열이 가득 차서 피드 이미지 ({}) 개의 썸네일을 만들지 않습니다.", feedImages.size());
+        }
+    }
+
+    /**
+     * 원본 파일 이름으로 계산한 썸네일, 미리보기 이미지 주소 (만들어지지 않았을 수도 있음)
+     */
+    public List<String> getVariantUrls(String imageUrl) {
+        String fileName = s3Service.getFileName(imageUrl);
+        return Arrays.stream(FeedImageVariant.values())
+                .map(variant -> s3Service.getFileUrl(variant.getFileName(fileName)))
+                .collect(Collectors.toList());
+    }
+
+    private void createVariants(FeedImage feedImage) {
+        try {
+            // 중복 제거로 같은 파일을 쓰는 경우 이미 만들어진 썸네일, 미리보기를 그대로 사용
+            Optional<FeedImage> processed = feedImageRepository.findFirstByImageUrlAndThumbnailUrlIsNotNull(feedImage.getImageUrl());
+            if (processed.isPresent()) {
+                feedImageRepository.updateVariantUrls(feedImage.getId(), processed.get().getThumbnailUrl(), processed.get().getPreviewUrl());
+                return;
+            }
+
+            String fileName = s3Service.getFileName(feedImage.getImageUrl());
+
+            BufferedImage original = ImageResizeUtil.read(s3Service.getFileBytes(fileName));
+            if (original == null) {
+                log.info("썸네일을 만들 수 없는 이미지 ({}) 입니다.", fileName);
+                return;
+            }
+
+            Map<FeedImageVariant, String> variantUrls = new EnumMap<>(FeedImageVariant.class);
+            for (FeedImageVariant variant : FeedImageVariant.values()) {
+                byte[] resized = ImageResizeUtil.resizeToJpeg(original, variant.getWidth());
+                variantUrls.put(variant, s3Service.uploadBytes(variant.getFileName(fileName), resized, MediaType.IMAGE_JPEG_VALUE));
+            }
+
+            int updated = feedImageRepository.updateVariantUrls(feedImage.getId(),
+                    variantUrls.get(FeedImageVariant.THUMBNAIL), variantUrls.get(FeedImageVariant.PREVIEW));
+
+            // 만드는 동안 피드가 삭제되어 원본을 참조하는 피드가 없으면 방금 올린 파일도 삭제 대기 목록에 추가
+            if (updated == 0 && !imageObjectRepository.existsByImageUrl(feedImage.getImageUrl())) {
+                imageDeletionRepository.saveAll(variantUrls.values().stream()
+                        .map(ImageDeletion::of)
+                        .collect(Collectors.toList()));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("피드 이미지 ({}) 의 썸네일을 만드는 중 에러가 발생하였습니다.", feedImage.getImageUrl(), e);
+        }
+    }
+}
@@ -3,55 +3,145 @@ package com.photory.service.image;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.AmazonS3URI;
+import com.amazonaws.services.s3.model.*;
 import com.photory.common.exception.model.ForbiddenException;
 import com.photory.common.exception.model.InternalServerException;
-import lombok.RequiredArgsConstructor;
+import com.photory.common.exception.model.PhotoryException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static com.photory.common.exception.ErrorCode.FORBIDDEN_FILE_TYPE_EXCEPTION;
 
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+
+    private static final int STREAMING_PART_SIZE = 5 * 1024 * 1024; // S3 multipart upload 최소 파트 크기
 
     @Value("${cloud.aws.s3.bucket}")
     public String bucket;
 
+    @Value("${cloud.aws.s3.upload.fan-out:4}")
+    private int uploadFanOut;
+
+    public S3Service(AmazonS3 amazonS3,
+                     @Qualifier("s3UploadExecutor") ThreadPoolTaskExecutor s3UploadExecutor) {
+        this.amazonS3 = amazonS3;
+        this.s3UploadExecutor = s3UploadExecutor;
+    }
+
     public List<String> uploadFile(List<MultipartFile> multipartFile) {
-        List<String> fileUrlList = new ArrayList<>();
+        List<String> fileNames = multipartFile.stream()
+                .map(file -> createFileName(file.getOriginalFilename()))
+                .collect(Collectors.toList());
 
-        multipartFile.forEach(file -> {
-            String fileName = createFileName(file.getOriginalFilename());
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(file.getSize());
-            objectMetadata.setContentType(file.getContentType());
-
-            try (InputStream inputStream = file.getInputStream()) {
-                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            } catch (IOException e) {
-                throw new InternalServerException(String.format("파일 (%s) 입력 스트림을 가져오는 중 에러가 발생하였습니다", file.getOriginalFilename()));
+        // 요청 하나가 업로드 스레드 풀을 독점하지 않도록 동시에 진행되는 업로드 수를 제한
+        Semaphore fanOut = new Semaphore(uploadFanOut);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+
+        for (int i = 0; i < multipartFile.size() && !failed.get(); i++) {
+            MultipartFile file = multipartFile.get(i);
+            String fileName = fileNames.get(i);
+
+            try {
+                fanOut.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.set(true);
+                break;
+            }
+
+            uploads.add(CompletableFuture.runAsync(() -> putObject(file, fileName), s3UploadExecutor)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            failed.set(true);
+                        }
+                        fanOut.release();
+                    }));
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            cleanUpUploadedFiles(uploads, fileNames);
+            if (e.getCause() instanceof PhotoryException) {
+                throw (PhotoryException) e.getCause();
             }
+            throw new InternalServerException(String.format("파일 (%s) 을 업로드하는 중 에러가 발생하였습니다", fileNames));
+        }
 
-            fileUrlList.add(amazonS3.getUrl(bucket, fileName).toString());
-        });
+        if (failed.get()) {
+            cleanUpUploadedFiles(uploads, fileNames);
+            throw new InternalServerException(String.format("파일 (%s) 을 업로드하는 중 에러가 발생하였습니다", fileNames));
+        }
 
-        return fileUrlList;
+        return fileNames.stream()
+                .map(fileName -> amazonS3.getUrl(bucket, fileName).toString())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 입력 스트림을 파트 크기 버퍼 하나로만 읽어서 S3 에 바로 업로드
+     * 파트 크기보다 작으면 한 번에 업로드하고, 크면 multipart upload 로 나누어 업로드
+     */
+    public String uploadStream(InputStream inputStream, String originalFileName, String contentType) throws IOException {
+        String fileName = createFileName(originalFileName);
+        byte[] buffer = new byte[STREAMING_PART_SIZE];
+
+        int read = readFully(inputStream, buffer);
+        if (read < STREAMING_PART_SIZE) {
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(read);
+            objectMetadata.setContentType(contentType);
+
+            amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(buffer, 0, read), objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } else {
+            multipartUpload(inputStream, fileName, contentType, buffer, read);
+        }
+
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    public byte[] getFileBytes(String fileName) throws IOException {
+        try (S3Object s3Object = amazonS3.getObject(bucket, fileName);
+             InputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    public String uploadBytes(String fileName, byte[] bytes, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(bytes.length);
+        objectMetadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+
+        return getFileUrl(fileName);
     }
 
     public void deleteFile(String fileName) {
@@ -68,6 +158,109 @@ public class S3Service {
         }
     }
 
+    /**
+     * 여러 파일을 DeleteObjects 요청 한 번으로 삭제하고 삭제에 실패한 파일 이름을 반환
+     */
+    public List<String> deleteFiles(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucket)
+                .withKeys(fileNames.toArray(new String[0]))
+                .withQuiet(true);
+
+        try {
+            amazonS3.deleteObjects(deleteObjectsRequest);
+            return Collections.emptyList();
+        } catch (MultiObjectDeleteException e) {
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public String getFileName(String fileUrl) {
+        return new AmazonS3URI(fileUrl).getKey();
+    }
+
+    public String getFileUrl(String fileName) {
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    private void putObject(MultipartFile file, String fileName) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(file.getSize());
+        objectMetadata.setContentType(file.getContentType());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (IOException e) {
+            throw new InternalServerException(String.format("파일 (%s) 입력 스트림을 가져오는 중 에러가 발생하였습니다", file.getOriginalFilename()));
+        }
+    }
+
+    // 업로드가 모두 끝난 뒤 성공한 파일만 삭제
+    private void cleanUpUploadedFiles(List<CompletableFuture<Void>> uploads, List<String> fileNames) {
+        for (int i = 0; i < uploads.size(); i++) {
+            CompletableFuture<Void> upload = uploads.get(i);
+            if (upload.isCompletedExceptionally()) {
+                continue;
+            }
+            try {
+                upload.join();
+                deleteFile(fileNames.get(i));
+            } catch (CompletionException | PhotoryException e) {
+                log.warn("업로드 실패 후 파일 ({}) 을 정리하는 중 에러가 발생하였습니다", fileNames.get(i), e);
+            }
+        }
+    }
+
+    private void multipartUpload(InputStream inputStream, String fileName, String contentType, byte[] buffer, int firstRead) throws IOException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, fileName, objectMetadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int partNumber = 1;
+            int read = firstRead;
+            while (read > 0) {
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(fileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read);
+                partETags.add(amazonS3.uploadPart(uploadPartRequest).getPartETag());
+
+                read = readFully(inputStream, buffer);
+            }
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, fileName, uploadId, partETags));
+        } catch (IOException | SdkClientException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileName, uploadId));
+            throw e;
+        }
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽고 읽은 크기를 반환
+    private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = inputStream.read(buffer, total, buffer.length - total);
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
     private String createFileName(String fileName) {
         return UUID.randomUUID().toString().concat(getFileExtension(fileName));
     }
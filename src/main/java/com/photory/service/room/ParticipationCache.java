@@ -0,0 +1,79 @@
+package com.photory.service.room;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.photory.common.util.RedisUtil;
+import com.photory.domain.participate.repository.ParticipateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * (방, 유저) 참여 여부 캐시 (서버 메모리)
+ * 참여 여부는 방 참여, 나가기, 강퇴, 회원 탈퇴 때만 바뀌므로 그때 모든 서버의 캐시를 Redis pub/sub 으로 무효화
+ * 메시지를 놓치더라도 TTL 이 지나면 다시 DB 에서 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipationCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "participation:invalidation";
+
+    private final ParticipateRepository participateRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, Boolean> localCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public boolean isParticipating(Long roomId, Long userId) {
+        return localCache.get(toKey(roomId, userId), key -> participateRepository.existsByRoomIdAndUserId(roomId, userId));
+    }
+
+    /**
+     * 참여 여부가 바뀐 경우 호출 (트랜잭션 안이면 커밋된 뒤에 무효화해서 커밋 전 값이 다시 캐시되지 않도록 함)
+     */
+    public void evict(Long roomId, Long userId) {
+        String key = toKey(roomId, userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEviction(key);
+                }
+            });
+            return;
+        }
+        publishEviction(key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publishEviction(String key) {
+        localCache.invalidate(key);
+        redisUtil.publish(INVALIDATION_CHANNEL, key);
+    }
+
+    private String toKey(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+}
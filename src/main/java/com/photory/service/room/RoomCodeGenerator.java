@@ -0,0 +1,83 @@
+package com.photory.service.room;
+
+import com.photory.common.exception.model.InternalServerException;
+import com.photory.domain.room.RoomCodeCipher;
+import com.photory.domain.room.RoomCodeSequence;
+import com.photory.domain.room.repository.RoomCodeSequenceRepository;
+import com.photory.domain.room.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 순번 (RoomCodeSequence) 을 RoomCodeCipher 로 섞어서 겹치지 않는 방 코드를 발급
+ * 순번은 서버마다 blockSize 개씩 예약해서 메모리에서 나눠 쓰므로 방을 만들 때마다 순번 행을 잠그지 않음 (재시작하면 남은 블록은 버림)
+ * 순번 방식 이전에 무작위로 만든 코드와 겹치는 경우만 (room.code 유니크 인덱스로) 확인해서 다음 순번을 사용
+ */
+@Component
+public class RoomCodeGenerator {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final RoomRepository roomRepository;
+    private final RoomCodeSequenceRepository roomCodeSequenceRepository;
+    private final RoomCodeCipher roomCodeCipher;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    private long nextSequence;
+    private long blockEnd;
+
+    public RoomCodeGenerator(RoomRepository roomRepository,
+                             RoomCodeSequenceRepository roomCodeSequenceRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${room.code.key:20220101}") long key,
+                             @Value("${room.code.block-size:100}") int blockSize) {
+        this.roomRepository = roomRepository;
+        this.roomCodeSequenceRepository = roomCodeSequenceRepository;
+        this.roomCodeCipher = new RoomCodeCipher(key);
+        // 방 생성 트랜잭션과 별개로 바로 커밋해서 순번 행 잠금을 짧게 유지
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public String generate() {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String code = roomCodeCipher.encode(nextSequence() % RoomCodeCipher.CODE_SPACE);
+            if (!roomRepository.existsByCode(code)) {
+                return code;
+            }
+        }
+        throw new InternalServerException("방 코드를 발급하지 못하였습니다.");
+    }
+
+    private synchronized long nextSequence() {
+        if (nextSequence >= blockEnd) {
+            nextSequence = allocateBlock();
+            blockEnd = nextSequence + blockSize;
+        }
+        return nextSequence++;
+    }
+
+    private long allocateBlock() {
+        try {
+            return transactionTemplate.execute(status -> roomCodeSequenceRepository.findForUpdateById(RoomCodeSequence.ID)
+                    .orElseGet(() -> roomCodeSequenceRepository.saveAndFlush(RoomCodeSequence.of(initialSequence())))
+                    .allocate(blockSize));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 순번 행을 만든 경우 그 행에서 예약
+            return transactionTemplate.execute(status -> roomCodeSequenceRepository.findForUpdateById(RoomCodeSequence.ID)
+                    .orElseThrow(() -> new InternalServerException("방 코드 순번을 찾을 수 없습니다."))
+                    .allocate(blockSize));
+        }
+    }
+
+    // 순번 행이 없으면 (처음 배포) 지금까지 만든 방 수부터 시작
+    private long initialSequence() {
+        return roomRepository.count();
+    }
+}
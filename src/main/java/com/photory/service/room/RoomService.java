@@ -10,16 +10,25 @@ import com.photory.controller.room.dto.response.GetRoomResponse;
 import com.photory.controller.room.dto.response.GetRoomsResponse;
 import com.photory.controller.room.dto.response.JoinRoomResponse;
 import com.photory.domain.participate.Participate;
+import com.photory.domain.participate.dto.ParticipatingRoomsVersionDto;
 import com.photory.domain.participate.repository.ParticipateRepository;
 import com.photory.domain.room.Room;
+import com.photory.domain.room.dto.RoomListDto;
 import com.photory.domain.room.repository.RoomRepository;
 import com.photory.domain.user.User;
-import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.user.UserCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.photory.common.exception.ErrorCode.*;
 
@@ -27,17 +36,21 @@ import static com.photory.common.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class RoomService {
 
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     private final RoomRepository roomRepository;
     private final ParticipateRepository participateRepository;
+    private final RoomCodeGenerator roomCodeGenerator;
+    private final ParticipationCache participationCache;
+
+    private static final int MAX_PARTICIPANTS_COUNT = 8;
 
     public CreateRoomResponse createRoom(String userEmail, CreateRoomRequestDto request) {
         String title = request.getTitle();
         String password = request.getPassword();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
 
-        Room room = Room.of(RoomServiceUtils.createRoomCode(roomRepository), user, title, password, 1, true);
+        Room room = Room.of(roomCodeGenerator.generate(), user, title, password, 1, true);
 
         Room created = roomRepository.save(room);
 
@@ -50,34 +63,40 @@ public class RoomService {
         return response;
     }
 
+    /**
+     * 인원 증가는 최대 인원 조건을 건 update 한 번으로 처리하고, 중복 참여는 (방, 유저) 유니크 제약으로 막음
+     * 참여 저장에 실패하면 트랜잭션이 롤백되어 증가한 인원도 되돌아감
+     */
+    @Transactional
     public JoinRoomResponse joinRoom(String userEmail, JoinRoomRequestDto request) {
         String code = request.getCode();
         String password = request.getPassword();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
 
         Optional<Room> room = roomRepository.findByCode(code);
 
         if (room.isPresent()) {
             if (password.equals(room.get().getPassword())) {
-                if (room.get().getParticipantsCount() >= 8) {
-                    throw new ForbiddenException(String.format("방 (%s) 은 최대 인원 8명을 넘을 수 없습니다.", room.get().getId()), FORBIDDEN_ROOM_EXCEED_CAPACITY_EXCEPTION);
+                Long roomId = room.get().getId();
+                if (participateRepository.existsByRoomIdAndUserId(roomId, user.getId())) {
+                    throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 에 참가중입니다.", user.getId(), roomId), CONFLICT_JOIN_ROOM_EXCEPTION);
                 }
-                Optional<Participate> participating = participateRepository.findByRoomAndUser(room.get(), user);
-                if (participating.isPresent()) {
-                    throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 에 참가중입니다.", user.getId(), room.get().getId()), CONFLICT_JOIN_ROOM_EXCEPTION);
-                } else {
-                    Participate participate = Participate.of(room.get(), user);
 
-                    participateRepository.save(participate);
+                if (roomRepository.increaseParticipantsCount(roomId, MAX_PARTICIPANTS_COUNT, LocalDateTime.now()) == 0) {
+                    throw new ForbiddenException(String.format("방 (%s) 은 최대 인원 8명을 넘을 수 없습니다.", roomId), FORBIDDEN_ROOM_EXCEED_CAPACITY_EXCEPTION);
+                }
 
-                    room.get().setParticipantsCount(room.get().getParticipantsCount() + 1);
-                    roomRepository.save(room.get());
+                try {
+                    participateRepository.saveAndFlush(Participate.of(room.get(), user));
+                } catch (DataIntegrityViolationException e) {
+                    throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 에 참가중입니다.", user.getId(), roomId), CONFLICT_JOIN_ROOM_EXCEPTION);
+                }
+                participationCache.evict(roomId, user.getId());
 
-                    JoinRoomResponse response = JoinRoomResponse.of(room.get());
+                JoinRoomResponse response = JoinRoomResponse.of(RoomServiceUtils.findRoomWithOwnerUserByRoomId(roomRepository, roomId));
 
-                    return response;
-                }
+                return response;
             } else {
                 throw new ValidationException("잘못된 비밀번호입니다.", VALIDATION_WRONG_PASSWORD_EXCEPTION);
             }
@@ -86,79 +105,99 @@ public class RoomService {
         }
     }
 
-    public ArrayList<GetRoomsResponse> getRooms(String userEmail) {
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+    /**
+     * 참여 중인 방 목록 ETag (참여 중인 방 수 + 참여 인원 합계 + 방들의 마지막 수정 시각)
+     */
+    public String getRoomsETag(Long userId) {
+        ParticipatingRoomsVersionDto version = participateRepository.findParticipatingRoomsVersion(userId);
 
-        ArrayList<Room> rooms = new ArrayList<>();
+        return String.format("rooms-%s-%s-%s", version.getRoomsCount(), version.getParticipantsCountSum(), version.getLastUpdatedAt());
+    }
 
-        ArrayList<Participate> participates = participateRepository.findAllByUser(user);
-        for (int i = 0; i < participates.size(); i++) {
-            rooms.add(participates.get(i).getRoom());
-        }
+    public ArrayList<GetRoomsResponse> getRooms(Long userId) {
+        return getRooms(userId, null, null);
+    }
 
-        ArrayList<GetRoomsResponse> response = new ArrayList<>();
-        rooms.forEach((room -> {
-            GetRoomsResponse getRoomsResponse = GetRoomsResponse.of(room);
+    /**
+     * 참여 중인 방 목록 (방 id 내림차순)
+     * size 가 없으면 전체, 있으면 lastRoomId 보다 작은 방부터 size 개 (마지막 방 id 를 다음 요청의 lastRoomId 로 사용)
+     */
+    public ArrayList<GetRoomsResponse> getRooms(Long userId, Integer size, Long lastRoomId) {
+        // PageRequest 는 1 보다 작은 크기를 받지 않으므로 500 이 아닌 400 으로 응답
+        if (size != null && size < 1) {
+            throw new ValidationException(String.format("조회할 방 수 (%s) 는 1 이상이어야 합니다.", size), VALIDATION_EXCEPTION);
+        }
 
-            response.add(getRoomsResponse);
-        }));
+        Pageable pageable = size == null ? Pageable.unpaged() : PageRequest.of(0, size);
+        List<RoomListDto> rooms = lastRoomId == null
+                ? participateRepository.findRoomListByUserId(userId, pageable)
+                : participateRepository.findRoomListByUserIdAndRoomIdLessThan(userId, lastRoomId, pageable);
 
-        return response;
+        return rooms.stream()
+                .map(GetRoomsResponse::of)
+                .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    public GetRoomResponse getRoom(String userEmail, Long roomId) {
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+    /**
+     * 방 정보 ETag (방 수정 시각 + 참여 인원)
+     */
+    public String getRoomETag(Long userId, Long roomId) {
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
-        ArrayList<Long> userIds = new ArrayList<>();
-
-        //방에 참가한 사용자만 방 정보 조회 가능
-        Optional<Participate> participating = participateRepository.findByRoomAndUser(room, user);
-        if (participating.isEmpty()) {
+        if (!participationCache.isParticipating(room.getId(), userId)) {
             throw new ForbiddenException(String.format("참가하지 않은 방 (%s) 입니다", room.getId()), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
         }
 
-        //해당 방에 대한 참가정보 가져오기
-        ArrayList<Participate> participates = participateRepository.findAllByRoom(room);
-        for (Participate participate : participates) {
-            Long userId = participate.getUser().getId();
+        return String.format("room-%s-%s-%s", roomId, room.getUpdatedAt(), room.getParticipantsCount());
+    }
+
+    public GetRoomResponse getRoom(Long userId, Long roomId) {
+        Room room = RoomServiceUtils.findRoomWithOwnerUserByRoomId(roomRepository, roomId);
 
-            userIds.add(userId);
+        //방에 참가한 사용자만 방 정보 조회 가능
+        if (!participationCache.isParticipating(room.getId(), userId)) {
+            throw new ForbiddenException(String.format("참가하지 않은 방 (%s) 입니다", room.getId()), FORBIDDEN_ROOM_PARTICIPANT_EXCEPTION);
         }
 
+        //해당 방에 참가한 사용자 id 가져오기
+        ArrayList<Long> userIds = new ArrayList<>(participateRepository.findUserIdsByRoomId(room.getId()));
+
         GetRoomResponse response = GetRoomResponse.of(room, userIds);
 
         return response;
     }
 
+    /**
+     * 참여 삭제와 인원 감소를 한 트랜잭션으로 묶어서 둘 중 하나만 반영되지 않도록 함
+     */
+    @Transactional
     public void leaveRoom(String userEmail, LeaveRoomRequestDto request) {
         Long roomId = request.getRoomId();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
-        Optional<Participate> participate = participateRepository.findByRoomAndUser(room, user);
-
-        if (participate.isPresent()) {
+        if (participateRepository.existsByRoomIdAndUserId(room.getId(), user.getId())) {
 
             User ownerUser = room.getOwnerUser();
-            ArrayList<Participate> participateArrayList = participateRepository.findAllByRoom(room);
+            long participantsCount = participateRepository.countByRoomId(room.getId());
 
             // 사용자가 방의 주인인데 다른 참여자가 남아 있다면 방을 나갈 수 없음
-            if (user.getId() == ownerUser.getId() && participateArrayList.size() > 1) {
+            if (user.getId().equals(ownerUser.getId()) && participantsCount > 1) {
                 throw new ForbiddenException(String.format("(%s) 방의 방장 (%s) 는 다른 참여자가 남아 있다면 방을 나갈 수 없습니다.", room.getId(), user.getId()), FORBIDDEN_ROOM_OWNER_LEAVE_LAST_EXCEPTION);
             }
 
             // 사용자가 방의 주인이고 방에 혼자 남아 있다면 방을 나갈 수 없고 비활성화 할 수 있다는 메시지를 보냄
-            if (user.getId() == ownerUser.getId() && participateArrayList.size() == 1) {
+            if (user.getId().equals(ownerUser.getId()) && participantsCount == 1) {
                 throw new ForbiddenException(String.format("(%s) 방의 방장 (%s) 은 방을 비활성화 할 수 있습니다.", room.getId(), user.getId()), FORBIDDEN_ROOM_OWNER_LEAVE_EXCEPTION);
             }
 
-            // 사용자가 방의 주인이 아니면 방을 나감
-            participateRepository.delete(participate.get());
-
-            room.setParticipantsCount(room.getParticipantsCount() - 1);
-            roomRepository.save(room);
+            // 사용자가 방의 주인이 아니면 방을 나감 (동시에 나가는 요청은 하나만 인원을 줄임)
+            if (participateRepository.deleteByRoomIdAndUserId(room.getId(), user.getId()) == 0) {
+                throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 을 나갔습니다.", user.getId(), room.getId()), CONFLICT_LEAVE_ROOM_EXCEPTION);
+            }
+            roomRepository.decreaseParticipantsCount(room.getId(), LocalDateTime.now());
+            participationCache.evict(room.getId(), user.getId());
         } else {
             throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 을 나갔습니다.", user.getId(), room.getId()), CONFLICT_LEAVE_ROOM_EXCEPTION);
         }
@@ -167,19 +206,18 @@ public class RoomService {
     public void disableRoom(String userEmail, DisableRoomRequestDto request) {
         Long roomId = request.getRoomId();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
         User ownerUser = room.getOwnerUser();
 
         // 방장이 아니면 방을 비활성화할 수 없음
-        if (user.getId() != ownerUser.getId()) {
+        if (!user.getId().equals(ownerUser.getId())) {
             throw new ForbiddenException(String.format("해당 유저 (%s) 는 방장이 아닙니다.", user.getId()), FORBIDDEN_ROOM_OWNER_EXCEPTION);
         }
 
         // 방장을 제외한 다른 참가자가 더 있으면 방을 비활성화할 수 없음
-        ArrayList<Participate> participates = participateRepository.findAllByRoom(room);
-        if (participates.size() > 1) {
+        if (participateRepository.countByRoomId(room.getId()) > 1) {
             throw new ForbiddenException(String.format("(%s) 방의 방장 (%s) 는 다른 참여자가 남아 있다면 방을 비활성화 시킬 수 없습니다.", room.getId(), user.getId()), FORBIDDEN_ROOM_OWNER_DISABLE_LAST_EXCEPTION);
         }
 
@@ -188,18 +226,20 @@ public class RoomService {
         roomRepository.save(room);
     }
 
+    // 강퇴도 참여 삭제와 인원 감소를 한 트랜잭션으로 반영
+    @Transactional
     public void deleteUserForce(String userEmail, DeleteUserForceRequestDto request) {
         Long deletedUserId = request.getDeletedUserId();
         Long roomId = request.getRoomId();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
-        User deletedUser = RoomServiceUtils.findUserById(userRepository, deletedUserId);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
+        User deletedUser = RoomServiceUtils.findUserById(userCache, deletedUserId);
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
         User ownerUser = room.getOwnerUser();
 
         //방장이 아니면 사용자 강퇴시킬 수 없음
-        if (user.getId() != ownerUser.getId()) {
+        if (!user.getId().equals(ownerUser.getId())) {
             throw new ForbiddenException(String.format("해당 유저 (%s) 는 방장이 아닙니다.", user.getId()), FORBIDDEN_ROOM_OWNER_EXCEPTION);
         }
 
@@ -209,22 +249,24 @@ public class RoomService {
             throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 을 나갔습니다.", deletedUser.getId(), room.getId()), CONFLICT_LEAVE_ROOM_EXCEPTION);
         }
 
-        participateRepository.delete(participatingUser.get());
-        room.setParticipantsCount(room.getParticipantsCount() - 1);
-        roomRepository.save(room);
+        if (participateRepository.deleteByRoomIdAndUserId(room.getId(), deletedUser.getId()) == 0) {
+            throw new ConflictException(String.format("유저 (%s) 는 이미 방 (%s) 을 나갔습니다.", deletedUser.getId(), room.getId()), CONFLICT_LEAVE_ROOM_EXCEPTION);
+        }
+        roomRepository.decreaseParticipantsCount(room.getId(), LocalDateTime.now());
+        participationCache.evict(room.getId(), deletedUser.getId());
     }
 
     public void modifyRoomPassword(String userEmail, ModifyRoomPasswordRequestDto request) {
         Long roomId = request.getRoomId();
         String afterPassword = request.getAfterPassword();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
         User ownerUser = room.getOwnerUser();
 
         // 방장이 아니면 비밀번호를 변경할 수 없음
-        if (user.getId() != ownerUser.getId()) {
+        if (!user.getId().equals(ownerUser.getId())) {
             throw new ForbiddenException(String.format("해당 유저 (%s) 는 방장이 아닙니다.", user.getId()), FORBIDDEN_ROOM_OWNER_EXCEPTION);
         }
 
@@ -237,14 +279,14 @@ public class RoomService {
         Long roomId = request.getRoomId();
         Long delegatedUserId = request.getDelegatedUserId();
 
-        User user = RoomServiceUtils.findUserByEmail(userRepository, userEmail);
-        User delegatedUser = RoomServiceUtils.findUserById(userRepository, delegatedUserId);
+        User user = RoomServiceUtils.findUserByEmail(userCache, userEmail);
+        User delegatedUser = RoomServiceUtils.findUserById(userCache, delegatedUserId);
         Room room = RoomServiceUtils.findRoomByRoomId(roomRepository, roomId);
 
         User ownerUser = room.getOwnerUser();
 
         // 방장이 아니면 방장 변경 불가능
-        if (user.getId() != ownerUser.getId()) {
+        if (!user.getId().equals(ownerUser.getId())) {
             throw new ForbiddenException(String.format("해당 유저 (%s) 는 방장이 아닙니다.", user.getId()), FORBIDDEN_ROOM_OWNER_EXCEPTION);
         }
 
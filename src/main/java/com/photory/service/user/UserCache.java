@@ -0,0 +1,135 @@
+package com.photory.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.photory.common.util.RedisUtil;
+import com.photory.domain.user.User;
+import com.photory.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 유저 조회 캐시 (요청 안에서는 같은 객체를 재사용하고, 요청 사이에는 서버 메모리에 보관)
+ * 유저 정보는 거의 바뀌지 않으므로 회원 탈퇴 등 상태가 바뀔 때만 모든 서버의 캐시를 Redis pub/sub 으로 무효화
+ * 캐시된 유저는 여러 요청이 함께 쓰므로 값을 바꿀 때는 엔티티를 수정하지 않고 쿼리로 변경한 뒤 evict 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "user:invalidation";
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserCache.class.getName() + ".";
+
+    private final UserRepository userRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final Cache<String, User> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return find(emailKey(email), () -> userRepository.findByEmail(email));
+    }
+
+    public Optional<User> findById(Long userId) {
+        return find(idKey(userId), () -> userRepository.findById(userId));
+    }
+
+    /**
+     * 유저 정보가 바뀐 경우 호출 (트랜잭션 안이면 커밋된 뒤에 무효화해서 커밋 전 값이 다시 캐시되지 않도록 함)
+     */
+    public void evict(User user) {
+        String idKey = idKey(user.getId());
+        String emailKey = emailKey(user.getEmail());
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + idKey, RequestAttributes.SCOPE_REQUEST);
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + emailKey, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEviction(idKey);
+                    publishEviction(emailKey);
+                }
+            });
+            return;
+        }
+        publishEviction(idKey);
+        publishEviction(emailKey);
+    }
+
+    public void invalidateAll() {
+        localCache.invalidateAll();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 요청 속성 -> 서버 메모리 -> DB 순서로 조회 (없는 유저는 캐시하지 않음)
+    private Optional<User> find(String key, Supplier<Optional<User>> loader) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + key;
+        if (requestAttributes != null) {
+            Object memoized = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (memoized != null) {
+                return Optional.of((User) memoized);
+            }
+        }
+
+        User user = localCache.getIfPresent(key);
+        if (user == null) {
+            Optional<User> loaded = loader.get();
+            if (loaded.isEmpty()) {
+                return Optional.empty();
+            }
+            user = loaded.get();
+            localCache.put(idKey(user.getId()), user);
+            localCache.put(emailKey(user.getEmail()), user);
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(attributeName, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return Optional.of(user);
+    }
+
+    private void publishEviction(String key) {
+        localCache.invalidate(key);
+        redisUtil.publish(INVALIDATION_CHANNEL, key);
+    }
+
+    private String idKey(Long userId) {
+        return "id:" + userId;
+    }
+
+    private String emailKey(String email) {
+        return "email:" + email;
+    }
+}
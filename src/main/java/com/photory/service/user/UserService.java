@@ -2,6 +2,8 @@ package com.photory.service.user;
 
 import com.photory.common.exception.model.ConflictException;
 import com.photory.common.util.RedisUtil;
+import com.photory.config.security.PasswordHasher;
+import com.photory.config.security.VerifiedTokenCache;
 import com.photory.controller.auth.dto.request.CreateUserRequestDto;
 import com.photory.domain.participate.Participate;
 import com.photory.domain.participate.repository.ParticipateRepository;
@@ -11,11 +13,14 @@ import com.photory.domain.user.User;
 import com.photory.domain.user.UserRole;
 import com.photory.domain.user.UserStatus;
 import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.room.ParticipationCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import static com.photory.common.exception.ErrorCode.CONFLICT_USER_EXCEPTION;
 
@@ -26,8 +31,11 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
     private final ParticipateRepository participateRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final RedisUtil redisUtil;
+    private final ParticipationCache participationCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserCache userCache;
 
     public void createUser(CreateUserRequestDto request) {
         String email = request.getEmail();
@@ -39,7 +47,7 @@ public class UserService {
         }
 
 //       if (redisUtil.getData(email) != null && redisUtil.getData(email).compareTo("1") == 0) {
-        User user = User.of(email, passwordEncoder.encode(password), nickname, null, UserRole.ROLE_USER);
+        User user = User.of(email, passwordHasher.encode(password), nickname, null, UserRole.ROLE_USER);
 
         userRepository.save(user);
 //        } else {
@@ -48,8 +56,10 @@ public class UserService {
     }
 
     //TODO 탈퇴된 사용자, 비활성화된 방 일정 기간 후 데이터 삭제
+    // 방 나가기, 방장 위임, 탈퇴 처리를 한 트랜잭션으로 반영 (캐시는 커밋 후 무효화)
+    @Transactional
     public void deleteUser(String userEmail) {
-        User user = UserServiceUtils.findUserByEmail(userRepository, userEmail);
+        User user = UserServiceUtils.findUserByEmail(userCache, userEmail);
 
         ArrayList<Participate> participatingList = participateRepository.findAllByUser(user);
 
@@ -58,41 +68,43 @@ public class UserService {
         for (Participate participating : participatingList) {
             Room participatingRoom = participating.getRoom();
             User ownerUser = participatingRoom.getOwnerUser();
-            ArrayList<Participate> participatingListWithOthers = participateRepository.findAllByRoom(participatingRoom);
+            List<Long> participantIds = participateRepository.findUserIdsByRoomId(participatingRoom.getId());
 
             // 사용자가 방장이 아니라면 방을 나감
-            if (user.getId() != ownerUser.getId()) {
-                participateRepository.delete(participating);
-
-                participatingRoom.setParticipantsCount(participatingRoom.getParticipantsCount() - 1);
-                roomRepository.save(participatingRoom);
+            if (!user.getId().equals(ownerUser.getId())) {
+                if (participateRepository.deleteByRoomIdAndUserId(participatingRoom.getId(), user.getId()) > 0) {
+                    roomRepository.decreaseParticipantsCount(participatingRoom.getId(), LocalDateTime.now());
+                }
+                participationCache.evict(participatingRoom.getId(), user.getId());
             }
 
             // 사용자가 방의 주인인데 다른 참여자가 남아 있다면 방장 위임 후 방을 나감
-            else if (user.getId() == ownerUser.getId() && participatingListWithOthers.size() > 1) {
-                for (Participate participatingOther : participatingListWithOthers) {
-                    if (user.getId() != participatingOther.getUser().getId()) {
-                        participatingRoom.setOwnerUser(participatingOther.getUser());
-
-                        participateRepository.delete(participating);
-
-                        participatingRoom.setParticipantsCount(participatingRoom.getParticipantsCount() - 1);
+            else if (user.getId().equals(ownerUser.getId()) && participantIds.size() > 1) {
+                for (Long participantId : participantIds) {
+                    if (!user.getId().equals(participantId)) {
+                        participatingRoom.setOwnerUser(userRepository.getReferenceById(participantId));
                         roomRepository.save(participatingRoom);
+
+                        if (participateRepository.deleteByRoomIdAndUserId(participatingRoom.getId(), user.getId()) > 0) {
+                            roomRepository.decreaseParticipantsCount(participatingRoom.getId(), LocalDateTime.now());
+                        }
+                        participationCache.evict(participatingRoom.getId(), user.getId());
                         break;
                     }
                 }
             }
 
             // 사용자가 방의 주인이고 방에 혼자 남아 있다면 방을 비활성화함
-            else if (user.getId() == ownerUser.getId() && participatingListWithOthers.size() == 1) {
+            else if (user.getId().equals(ownerUser.getId()) && participantIds.size() == 1) {
                 participatingRoom.setStatus(false);
                 roomRepository.save(participatingRoom);
             }
         }
 
         // 회원 탈퇴
-        user.setStatus(UserStatus.DELETED);
-        userRepository.save(user);
+        userRepository.updateStatus(user.getId(), UserStatus.DELETED);
         redisUtil.deleteData(user.getEmail());
+        verifiedTokenCache.evict(user.getEmail());
+        userCache.evict(user);
     }
 }
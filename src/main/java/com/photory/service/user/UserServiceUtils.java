@@ -2,7 +2,6 @@ package com.photory.service.user;
 
 import com.photory.common.exception.model.UnAuthorizedException;
 import com.photory.domain.user.User;
-import com.photory.domain.user.repository.UserRepository;
 import lombok.NoArgsConstructor;
 
 import java.util.Optional;
@@ -10,8 +9,8 @@ import java.util.Optional;
 @NoArgsConstructor
 public class UserServiceUtils {
 
-    public static User findUserByEmail(UserRepository userRepository, String userEmail) {
-        Optional<User> user = userRepository.findByEmail(userEmail);
+    public static User findUserByEmail(UserCache userCache, String userEmail) {
+        Optional<User> user = userCache.findByEmail(userEmail);
 
         if (user.isEmpty()) {
             throw new UnAuthorizedException("로그인 오류입니다.");
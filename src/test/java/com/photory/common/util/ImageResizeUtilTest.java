@@ -0,0 +1,179 @@
+package com.photory.common.util;
+
+import com.photory.domain.feedimage.FeedImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageResizeUtilTest {
+
+    // 가로 40, 세로 20 이미지의 왼쪽 위 10x10 을 빨간색으로 칠해서 회전 방향을 확인
+    private static final int WIDTH = 40;
+    private static final int HEIGHT = 20;
+    private static final int MARK = 10;
+
+    @Test
+    @DisplayName("read_성공_EXIF_방향이_없으면_그대로")
+    void read_성공_EXIF_방향이_없으면_그대로() throws IOException {
+        //given
+        byte[] jpeg = markedJpeg();
+
+        //when
+        BufferedImage image = ImageResizeUtil.read(jpeg);
+
+        //then
+        assertAll(
+                () -> assertEquals(WIDTH, image.getWidth()),
+                () -> assertEquals(HEIGHT, image.getHeight()),
+                () -> assertTrue(isRed(image, 5, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("read_성공_EXIF_방향_3_이면_180도_회전")
+    void read_성공_EXIF_방향_3_이면_180도_회전() throws IOException {
+        //when
+        BufferedImage image = ImageResizeUtil.read(withExifOrientation(markedJpeg(), 3));
+
+        //then
+        assertAll(
+                () -> assertEquals(WIDTH, image.getWidth()),
+                () -> assertEquals(HEIGHT, image.getHeight()),
+                () -> assertTrue(isRed(image, WIDTH - 5, HEIGHT - 5)),
+                () -> assertFalse(isRed(image, 5, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("read_성공_EXIF_방향_6_이면_시계_방향_90도_회전")
+    void read_성공_EXIF_방향_6_이면_시계_방향_90도_회전() throws IOException {
+        //when
+        BufferedImage image = ImageResizeUtil.read(withExifOrientation(markedJpeg(), 6));
+
+        //then
+        assertAll(
+                () -> assertEquals(HEIGHT, image.getWidth()),
+                () -> assertEquals(WIDTH, image.getHeight()),
+                () -> assertTrue(isRed(image, HEIGHT - 5, 5)),
+                () -> assertFalse(isRed(image, 5, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("read_성공_EXIF_방향_8_이면_반시계_방향_90도_회전")
+    void read_성공_EXIF_방향_8_이면_반시계_방향_90도_회전() throws IOException {
+        //when
+        BufferedImage image = ImageResizeUtil.read(withExifOrientation(markedJpeg(), 8));
+
+        //then
+        assertAll(
+                () -> assertEquals(HEIGHT, image.getWidth()),
+                () -> assertEquals(WIDTH, image.getHeight()),
+                () -> assertTrue(isRed(image, 5, WIDTH - 5)),
+                () -> assertFalse(isRed(image, 5, 5))
+        );
+    }
+
+    @Test
+    @DisplayName("read_성공_이미지가_아니면_null")
+    void read_성공_이미지가_아니면_null() throws IOException {
+        //when, then
+        assertNull(ImageResizeUtil.read("not an image".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("resizeToJpeg_성공_변환_너비에_맞춰_비율을_유지하며_줄임")
+    void resizeToJpeg_성공_변환_너비에_맞춰_비율을_유지하며_줄임() throws IOException {
+        //given
+        BufferedImage original = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        //when
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(ImageResizeUtil.resizeToJpeg(original, FeedImageVariant.THUMBNAIL.getWidth())));
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(ImageResizeUtil.resizeToJpeg(original, FeedImageVariant.PREVIEW.getWidth())));
+
+        //then
+        assertAll(
+                () -> assertEquals(320, thumbnail.getWidth()),
+                () -> assertEquals(160, thumbnail.getHeight()),
+                () -> assertEquals(1080, preview.getWidth()),
+                () -> assertEquals(540, preview.getHeight())
+        );
+    }
+
+    @Test
+    @DisplayName("resizeToJpeg_성공_변환_너비보다_작은_이미지는_늘리지_않음")
+    void resizeToJpeg_성공_변환_너비보다_작은_이미지는_늘리지_않음() throws IOException {
+        //given
+        BufferedImage original = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+
+        //when
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(ImageResizeUtil.resizeToJpeg(original, FeedImageVariant.THUMBNAIL.getWidth())));
+        BufferedImage preview = ImageIO.read(new ByteArrayInputStream(ImageResizeUtil.resizeToJpeg(original, FeedImageVariant.PREVIEW.getWidth())));
+
+        //then
+        assertAll(
+                () -> assertEquals(100, thumbnail.getWidth()),
+                () -> assertEquals(50, thumbnail.getHeight()),
+                () -> assertEquals(100, preview.getWidth()),
+                () -> assertEquals(50, preview.getHeight())
+        );
+    }
+
+    private byte[] markedJpeg() throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, MARK, MARK);
+        graphics.dispose();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    // JFIF (APP0) 세그먼트 뒤에 방향 값 하나만 담은 Exif (APP1) 세그먼트를 끼워 넣음
+    private byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08, // 빅 엔디언 TIFF 헤더, 첫 IFD 위치 8
+                0x00, 0x01,                                   // IFD 항목 수 1
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, // Orientation, SHORT, 1 개
+                0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00                        // 다음 IFD 없음
+        };
+        int length = 2 + 6 + tiff.length;
+
+        ByteArrayOutputStream app1 = new ByteArrayOutputStream();
+        app1.write(0xFF);
+        app1.write(0xE1);
+        app1.write(length >> 8);
+        app1.write(length & 0xFF);
+        app1.writeBytes("Exif".getBytes(StandardCharsets.US_ASCII));
+        app1.write(0);
+        app1.write(0);
+        app1.writeBytes(tiff);
+
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        result.write(jpeg, 0, app0End);
+        result.writeBytes(app1.toByteArray());
+        result.write(jpeg, app0End, jpeg.length - app0End);
+        return result.toByteArray();
+    }
+
+    // JPEG 손실을 고려해서 빨간색에 가까운지만 확인
+    private boolean isRed(BufferedImage image, int x, int y) {
+        Color color = new Color(image.getRGB(x, y));
+        return color.getRed() > 200 && color.getGreen() < 80 && color.getBlue() < 80;
+    }
+}
@@ -0,0 +1,38 @@
+package com.photory.config.resolver;
+
+import com.photory.common.exception.model.UnAuthorizedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserIdResolverTest {
+
+    private final UserIdResolver userIdResolver = new UserIdResolver();
+
+    @Test
+    @DisplayName("resolveArgument_성공_필터가_넣은_유저_id_를_반환")
+    void resolveArgument_성공_필터가_넣은_유저_id_를_반환() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1234L);
+
+        //when
+        Object userId = userIdResolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        //then
+        assertEquals(1234L, userId);
+    }
+
+    @Test
+    @DisplayName("resolveArgument_실패_유저_id_가_없는_경우")
+    void resolveArgument_실패_유저_id_가_없는_경우() {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        //when, then
+        assertThrows(UnAuthorizedException.class, () -> userIdResolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+    }
+}
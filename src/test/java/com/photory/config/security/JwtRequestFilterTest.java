@@ -0,0 +1,140 @@
+package com.photory.config.security;
+
+import com.photory.common.util.JwtUtil;
+import com.photory.common.util.RedisUtil;
+import com.photory.domain.user.User;
+import com.photory.domain.user.UserRole;
+import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.user.UserCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+public class JwtRequestFilterTest {
+
+    @Autowired
+    private JwtRequestFilter jwtRequestFilter;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @SpyBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    private String email;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        if (email != null) {
+            redisUtil.deleteData(email);
+            verifiedTokenCache.evict(email);
+        }
+        userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("doFilter_성공_토큰의_유저_id_와_권한으로_유저를_조회하지_않고_인증")
+    void doFilter_성공_토큰의_유저_id_와_권한으로_유저를_조회하지_않고_인증() throws ServletException, IOException {
+        //given
+        email = "claims@gmail.com";
+        Long userId = 1234L;
+        String token = jwtUtil.doGenerateToken(email, userId, UserRole.ROLE_USER.name(), 60L);
+        redisUtil.setDataExpire(email, token, 60L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        //when
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertAll(
+                () -> assertEquals(email, request.getAttribute("user")),
+                () -> assertEquals(userId, request.getAttribute("userId")),
+                () -> assertEquals(userId, ((SecurityUser) authentication.getPrincipal()).getUserId()),
+                () -> assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly(UserRole.ROLE_USER.name()),
+                () -> verify(customUserDetailsService, never()).loadUserByUsername(anyString())
+        );
+    }
+
+    @Test
+    @DisplayName("doFilter_성공_유저_id_가_없는_이전_토큰은_이메일로_유저를_조회")
+    void doFilter_성공_유저_id_가_없는_이전_토큰은_이메일로_유저를_조회() throws ServletException, IOException {
+        //given
+        email = "legacy@gmail.com";
+        User user = userRepository.save(User.of(email, "password1", "닉네임", null, UserRole.ROLE_USER));
+        String token = jwtUtil.doGenerateToken(email, null, null, 60L);
+        redisUtil.setDataExpire(email, token, 60L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        //when
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        assertAll(
+                () -> assertNull(jwtUtil.getUserId(jwtUtil.extractAllClaims(token))),
+                () -> assertEquals(email, request.getAttribute("user")),
+                () -> assertEquals(user.getId(), request.getAttribute("userId")),
+                () -> verify(customUserDetailsService, times(1)).loadUserByUsername(email)
+        );
+    }
+
+    @Test
+    @DisplayName("doFilter_실패_로그아웃한_토큰은_유저_id_를_넘기지_않음")
+    void doFilter_실패_로그아웃한_토큰은_유저_id_를_넘기지_않음() throws ServletException, IOException {
+        //given
+        email = "logout@gmail.com";
+        // 로그아웃해서 Redis 에 토큰이 없는 상태
+        String token = jwtUtil.doGenerateToken(email, 1234L, UserRole.ROLE_USER.name(), 60L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        //when
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        //then
+        assertAll(
+                () -> assertNull(request.getAttribute("user")),
+                () -> assertNull(request.getAttribute("userId")),
+                () -> assertNull(SecurityContextHolder.getContext().getAuthentication())
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.photory.domain.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnowflakeTest {
+
+    // 2022-01-02T00:00:00Z
+    private static final long NOW = 1641081600000L;
+    private static final long EPOCH = 1640995200000L;
+    private static final int TIMESTAMP_SHIFT = 22;
+    private static final long SEQUENCE_MASK = (1L << 12) - 1;
+
+    @Test
+    @DisplayName("nextId_성공_같은_밀리초_안에서_단조_증가")
+    void nextId_성공_같은_밀리초_안에서_단조_증가() {
+        //given
+        Snowflake snowflake = new Snowflake(1L, () -> NOW);
+
+        //when
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(snowflake.nextId());
+        }
+
+        //then
+        assertAll(
+                () -> assertThat(ids).isSorted().doesNotHaveDuplicates(),
+                () -> assertThat(ids).allMatch(id -> timestampOf(id) == NOW),
+                () -> assertEquals(99L, sequenceOf(ids.get(99))),
+                () -> assertEquals(1L, (ids.get(0) >>> 12) & Snowflake.MAX_NODE_ID)
+        );
+    }
+
+    @Test
+    @DisplayName("nextId_성공_시퀀스를_모두_쓰면_다음_밀리초로_넘어감")
+    void nextId_성공_시퀀스를_모두_쓰면_다음_밀리초로_넘어감() {
+        //given
+        Snowflake snowflake = new Snowflake(1L, () -> NOW);
+        long lastIdInMillis = 0L;
+        for (int i = 0; i <= SEQUENCE_MASK; i++) {
+            lastIdInMillis = snowflake.nextId();
+        }
+
+        //when
+        long overflowId = snowflake.nextId();
+        long nextId = snowflake.nextId();
+
+        //then
+        long finalLastIdInMillis = lastIdInMillis;
+        assertAll(
+                () -> assertEquals(NOW, timestampOf(finalLastIdInMillis)),
+                () -> assertEquals(SEQUENCE_MASK, sequenceOf(finalLastIdInMillis)),
+                () -> assertEquals(NOW + 1, timestampOf(overflowId)),
+                () -> assertEquals(0L, sequenceOf(overflowId)),
+                () -> assertTrue(overflowId > finalLastIdInMillis),
+                // 시계가 아직 따라오지 않았으므로 당겨 쓴 밀리초에서 계속 발급
+                () -> assertEquals(NOW + 1, timestampOf(nextId)),
+                () -> assertTrue(nextId > overflowId)
+        );
+    }
+
+    @Test
+    @DisplayName("nextId_성공_시계가_뒤로_가도_단조_증가")
+    void nextId_성공_시계가_뒤로_가도_단조_증가() {
+        //given
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(1L, clock::get);
+        long beforeRollback = snowflake.nextId();
+
+        //when
+        clock.set(NOW - 1000);
+        long afterRollback = snowflake.nextId();
+        clock.set(NOW + 1);
+        long afterRecovery = snowflake.nextId();
+
+        //then
+        assertAll(
+                () -> assertTrue(afterRollback > beforeRollback),
+                () -> assertEquals(NOW, timestampOf(afterRollback)),
+                () -> assertEquals(1L, sequenceOf(afterRollback)),
+                () -> assertTrue(afterRecovery > afterRollback),
+                () -> assertEquals(NOW + 1, timestampOf(afterRecovery)),
+                () -> assertEquals(0L, sequenceOf(afterRecovery))
+        );
+    }
+
+    @Test
+    @DisplayName("Snowflake_실패_노드_ID_범위_초과")
+    void Snowflake_실패_노드_ID_범위_초과() {
+        //when, then
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new Snowflake(-1L)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new Snowflake(Snowflake.MAX_NODE_ID + 1))
+        );
+    }
+
+    @Test
+    @DisplayName("resolveNodeId_실패_노드_ID_미지정")
+    void resolveNodeId_실패_노드_ID_미지정() {
+        //when, then
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.resolveNodeId(null)),
+                () -> assertThrows(IllegalStateException.class, () -> SnowflakeIdGenerator.resolveNodeId(" ")),
+                () -> assertEquals(7L, SnowflakeIdGenerator.resolveNodeId(" 7 "))
+        );
+    }
+
+    private long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + EPOCH;
+    }
+
+    private long sequenceOf(long id) {
+        return id & SEQUENCE_MASK;
+    }
+}
@@ -2,8 +2,11 @@ package com.photory.service;
 
 import com.photory.common.exception.model.ConflictException;
 import com.photory.common.exception.model.NotFoundException;
+import com.photory.common.exception.model.ServiceUnavailableException;
 import com.photory.common.exception.model.ValidationException;
 import com.photory.common.util.JwtUtil;
+import com.photory.config.security.SecurityUser;
+import com.photory.config.security.VerifiedTokenCache;
 import com.photory.controller.auth.dto.request.*;
 import com.photory.controller.auth.dto.request.ValidateEmailRequestDto.ValidateEmailRequestDtoBuilder;
 import com.photory.domain.user.User;
@@ -15,10 +18,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,12 +42,19 @@ class AuthServiceTest {
     @Autowired
     private RedisUtil redisUtil;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ThreadPoolTaskExecutor passwordHashExecutor;
+
     @AfterEach
     void cleanUp() {
         userRepository.deleteAllInBatch();
@@ -211,6 +225,27 @@ class AuthServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("signinUserTest_성공_검증된_이전_토큰_캐시를_무효화")
+    public void signinUserTest_성공_검증된_이전_토큰_캐시를_무효화() {
+        //given
+        User user = User.of("user@gmail.com", passwordEncoder.encode("password123"), "닉네임", null, UserRole.ROLE_USER);
+        userRepository.save(user);
+
+        SigninUserRequestDto signinUserRequestDto = SigninUserRequestDto.testBuilder()
+                .email("user@gmail.com")
+                .password("password123")
+                .build();
+        String previousToken = authService.signinUser(signinUserRequestDto);
+        verifiedTokenCache.put(previousToken, new SecurityUser(user), jwtUtil.extractAllClaims(previousToken).getExpiration());
+
+        //when
+        authService.signinUser(signinUserRequestDto);
+
+        //then
+        assertThat(verifiedTokenCache.get(previousToken)).isEmpty();
+    }
+
     @Test
     @DisplayName("signinUserTest_실패_아이디_틀린_경우")
     public void signinUserTest_실패_아이디_틀린_경우() {
@@ -246,4 +281,42 @@ class AuthServiceTest {
         //then
         assertThrows(ValidationException.class, () -> authService.signinUser(signinUserRequestDto));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("signinUserTest_실패_비밀번호_처리_대기열이_가득_찬_경우")
+    public void signinUserTest_실패_비밀번호_처리_대기열이_가득_찬_경우() {
+        //given
+        User user = User.of("user@gmail.com", passwordEncoder.encode("password123"), "닉네임", null, UserRole.ROLE_USER);
+        userRepository.save(user);
+
+        SigninUserRequestDto signinUserRequestDto = SigninUserRequestDto.testBuilder()
+                .email("user@gmail.com")
+                .password("password123")
+                .build();
+
+        // 비밀번호 처리 스레드와 큐를 모두 채움
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            while (true) {
+                try {
+                    passwordHashExecutor.execute(() -> {
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+                } catch (TaskRejectedException e) {
+                    break;
+                }
+            }
+
+            //when
+
+            //then
+            assertThrows(ServiceUnavailableException.class, () -> authService.signinUser(signinUserRequestDto));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.photory.service;
+
+import com.photory.controller.feed.dto.request.DeleteFeedRequestDto;
+import com.photory.controller.feed.dto.request.ModifyFeedRequestDto;
+import com.photory.controller.feed.dto.response.GetFeedsResponse;
+import com.photory.controller.room.dto.request.CreateRoomRequestDto;
+import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.repository.FeedRepository;
+import com.photory.domain.feedimage.repository.FeedImageRepository;
+import com.photory.domain.participate.repository.ParticipateRepository;
+import com.photory.domain.room.Room;
+import com.photory.domain.room.repository.RoomRepository;
+import com.photory.domain.user.User;
+import com.photory.domain.user.UserRole;
+import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.feed.FeedPageCache;
+import com.photory.service.feed.FeedService;
+import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class FeedPageCacheTest {
+
+    private static final int SIZE = 2;
+
+    @Autowired
+    private FeedPageCache feedPageCache;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ParticipateRepository participateRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private FeedImageRepository feedImageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private User user;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        room = roomRepository.findById(roomService.createRoom(user.getEmail(), createRoomRequestDto).getId()).get();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
+        roomRepository.deleteAllInBatch();
+        participateRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+        feedImageRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("getFeeds_성공_캐시된_첫_스크롤은_DB_를_조회하지_않음")
+    void getFeeds_성공_캐시된_첫_스크롤은_DB_를_조회하지_않음() {
+        //given
+        Feed feed = createFeed("제목");
+        String eTag = feedService.getFeedsETag(user.getId(), room.getId());
+        GetFeedsResponse firstScroll = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+
+        //when
+        statistics.clear();
+        String cachedETag = feedService.getFeedsETag(user.getId(), room.getId());
+        GetFeedsResponse cachedScroll = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+
+        //then
+        assertAll(
+                () -> assertEquals(eTag, cachedETag),
+                () -> assertEquals(feed.getId(), cachedScroll.getContents().get(0).getFeedId()),
+                () -> assertEquals(firstScroll.getTotalElements(), cachedScroll.getTotalElements()),
+                // 피드 버전도 Redis 에 캐시되어 있으므로 방을 조회하지 않음
+                () -> assertEquals(0L, statistics.getPrepareStatementCount())
+        );
+    }
+
+    @Test
+    @DisplayName("getFeeds_성공_조회_도중_피드가_바뀌면_이전_버전_응답은_다시_읽히지_않음")
+    void getFeeds_성공_조회_도중_피드가_바뀌면_이전_버전_응답은_다시_읽히지_않음() {
+        //given
+        createFeed("제목");
+        long versionBeforeWrite = roomRepository.findById(room.getId()).get().getFeedsVersion();
+        GetFeedsResponse staleScroll = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+
+        // 응답을 만드는 사이에 다른 요청이 피드를 바꾸고, 무효화보다 늦게 이전 응답이 저장된 경우
+        Feed newFeed = createFeed("새 제목");
+        feedPageCache.put(room.getId(), versionBeforeWrite, SIZE, staleScroll);
+
+        //when
+        GetFeedsResponse response = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+
+        //then
+        assertAll(
+                () -> assertThat(response.getContents()).hasSize(2),
+                () -> assertEquals(newFeed.getId(), response.getContents().get(0).getFeedId())
+        );
+    }
+
+    @Test
+    @DisplayName("createFeed_성공_첫_스크롤_캐시를_무효화")
+    void createFeed_성공_첫_스크롤_캐시를_무효화() {
+        //given
+        long version = cacheFirstScroll();
+
+        //when
+        Feed feed = createFeed("제목");
+
+        //then
+        GetFeedsResponse response = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+        assertAll(
+                () -> assertTrue(feedPageCache.getVersion(room.getId()).map(cached -> cached > version).orElse(true)),
+                () -> assertEquals(feed.getId(), response.getContents().get(0).getFeedId()),
+                () -> assertEquals(1L, response.getTotalElements())
+        );
+    }
+
+    @Test
+    @DisplayName("modifyFeed_성공_첫_스크롤_캐시를_무효화")
+    void modifyFeed_성공_첫_스크롤_캐시를_무효화() {
+        //given
+        Feed feed = createFeed("제목");
+        long version = cacheFirstScroll();
+
+        ModifyFeedRequestDto modifyFeedRequestDto = ModifyFeedRequestDto.testBuilder()
+                .feedId(feed.getId())
+                .title("제목 수정")
+                .content("내용 수정")
+                .build();
+
+        //when
+        feedService.modifyFeed(user.getEmail(), modifyFeedRequestDto);
+
+        //then
+        GetFeedsResponse response = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+        assertAll(
+                () -> assertTrue(feedPageCache.getVersion(room.getId()).map(cached -> cached > version).orElse(true)),
+                () -> assertEquals("제목 수정", response.getContents().get(0).getTitle())
+        );
+    }
+
+    @Test
+    @DisplayName("deleteFeed_성공_첫_스크롤_캐시를_무효화")
+    void deleteFeed_성공_첫_스크롤_캐시를_무효화() {
+        //given
+        Feed feed = createFeed("제목");
+        long version = cacheFirstScroll();
+
+        DeleteFeedRequestDto deleteFeedRequestDto = DeleteFeedRequestDto.testBuilder()
+                .feedId(feed.getId())
+                .build();
+
+        //when
+        feedService.deleteFeed(user.getEmail(), deleteFeedRequestDto);
+
+        //then
+        GetFeedsResponse response = feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+        assertAll(
+                () -> assertTrue(feedPageCache.getVersion(room.getId()).map(cached -> cached > version).orElse(true)),
+                () -> assertThat(response.getContents()).isEmpty(),
+                () -> assertEquals(0L, response.getTotalElements())
+        );
+    }
+
+    // 현재 피드 버전으로 첫 스크롤을 캐시하고 그 버전을 반환
+    private long cacheFirstScroll() {
+        feedService.getFeeds(user.getId(), room.getId(), SIZE, null);
+        long version = roomRepository.findById(room.getId()).get().getFeedsVersion();
+        assertTrue(feedPageCache.get(room.getId(), version, SIZE).isPresent());
+        return version;
+    }
+
+    private Feed createFeed(String title) {
+        feedService.createFeed(user.getEmail(), new ArrayList<>(), room.getId(), title, "내용");
+        return feedRepository.findAll().stream()
+                .filter(feed -> feed.getTitle().equals(title))
+                .findFirst()
+                .get();
+    }
+}
@@ -5,12 +5,17 @@ import com.photory.common.exception.model.NotFoundException;
 import com.photory.controller.feed.dto.request.DeleteFeedRequestDto;
 import com.photory.controller.feed.dto.request.ModifyFeedRequestDto;
 import com.photory.controller.feed.dto.response.GetFeedResponse;
+import com.photory.controller.feed.dto.response.GetFeedsResponse;
 import com.photory.controller.room.dto.request.CreateRoomRequestDto;
 import com.photory.controller.room.dto.request.JoinRoomRequestDto;
 import com.photory.domain.feed.Feed;
 import com.photory.domain.feed.repository.FeedRepository;
 import com.photory.domain.feedimage.FeedImage;
 import com.photory.domain.feedimage.repository.FeedImageRepository;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import com.photory.domain.imageobject.ImageObject;
+import com.photory.domain.imageobject.repository.ImageObjectRepository;
+import com.photory.domain.participate.Participate;
 import com.photory.domain.participate.repository.ParticipateRepository;
 import com.photory.domain.room.Room;
 import com.photory.domain.room.repository.RoomRepository;
@@ -18,7 +23,9 @@ import com.photory.domain.user.User;
 import com.photory.domain.user.UserRole;
 import com.photory.domain.user.repository.UserRepository;
 import com.photory.service.feed.FeedService;
+import com.photory.service.feed.FeedsCountScheduler;
 import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,9 +56,15 @@ public class FeedServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private FeedsCountScheduler feedsCountScheduler;
+
     @Autowired
     private ParticipateRepository participateRepository;
 
@@ -61,13 +74,22 @@ public class FeedServiceTest {
     @Autowired
     private FeedImageRepository feedImageRepository;
 
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
     @AfterEach
     void cleanUp() {
         userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
         roomRepository.deleteAllInBatch();
         participateRepository.deleteAllInBatch();
         feedRepository.deleteAllInBatch();
         feedImageRepository.deleteAllInBatch();
+        imageObjectRepository.deleteAllInBatch();
+        imageDeletionRepository.deleteAllInBatch();
     }
 
     @Test
@@ -105,9 +127,11 @@ public class FeedServiceTest {
         //then
         List<Feed> feeds = feedRepository.findAll();
         List<FeedImage> feedImages = feedImageRepository.findAll();
+        Optional<Room> roomAfterCreate = roomRepository.findById(roomId);
 
         assertAll(
                 () -> assertThat(feeds).hasSize(1),
+                () -> assertEquals(roomAfterCreate.get().getFeedsCount(), 1L),
                 () -> assertThat(feedImages).hasSize(1),
                 () -> assertEquals(feeds.get(0).getRoom().getId(), roomId),
                 () -> assertEquals(feeds.get(0).getUser().getId(), feedOwner.getId()),
@@ -124,6 +148,63 @@ public class FeedServiceTest {
         feedService.deleteFeed(feedOwner.getEmail(), deleteFeedRequestDto);
     }
 
+    @Test
+    @DisplayName("createFeedTest_성공_같은_이미지는_파일을_함께_사용")
+    void createFeedTest_성공_같은_이미지는_파일을_함께_사용() throws IOException {
+        //given
+        User user1 = User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER);
+        User feedOwner = userRepository.save(user1);
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomService.createRoom(feedOwner.getEmail(), createRoomRequestDto);
+        Optional<Room> room = roomRepository.findByOwnerUser(feedOwner);
+
+        String fileName = "profile";
+        String contentType = "png";
+        String filePath = "src/test/resources/image/profile.png";
+
+        String userEmail = feedOwner.getEmail();
+        Long roomId = room.get().getId();
+        String title = "제목";
+        String content = "내용";
+
+        //when
+        feedService.createFeed(userEmail, List.of(getMockMultipartFile(fileName, contentType, filePath)), roomId, title, content);
+        feedService.createFeed(userEmail, List.of(getMockMultipartFile(fileName, contentType, filePath)), roomId, title, content);
+
+        //then
+        List<FeedImage> feedImages = feedImageRepository.findAll();
+        List<ImageObject> imageObjects = imageObjectRepository.findAll();
+
+        assertAll(
+                () -> assertThat(feedImages).hasSize(2),
+                () -> assertEquals(feedImages.get(0).getImageUrl(), feedImages.get(1).getImageUrl()),
+                () -> assertThat(imageObjects).hasSize(1),
+                () -> assertEquals(imageObjects.get(0).getRefCount(), 2L)
+        );
+
+        // 한 피드를 삭제해도 다른 피드가 쓰는 파일은 남아 있음
+        DeleteFeedRequestDto deleteFeedRequestDto = DeleteFeedRequestDto.testBuilder()
+                .feedId(feedImages.get(0).getFeed().getId())
+                .build();
+        feedService.deleteFeed(feedOwner.getEmail(), deleteFeedRequestDto);
+
+        Optional<ImageObject> imageObjectAfterDelete = imageObjectRepository.findByContentHash(imageObjects.get(0).getContentHash());
+        assertAll(
+                () -> assertThat(imageObjectAfterDelete).isPresent(),
+                () -> assertEquals(imageObjectAfterDelete.get().getRefCount(), 1L)
+        );
+
+        //after
+        DeleteFeedRequestDto deleteOtherFeedRequestDto = DeleteFeedRequestDto.testBuilder()
+                .feedId(feedImages.get(1).getFeed().getId())
+                .build();
+        feedService.deleteFeed(feedOwner.getEmail(), deleteOtherFeedRequestDto);
+    }
+
     @Test
     @DisplayName("createFeedTest_실패_참여하고_있는_방이_아닌_경우")
     void createFeedTest_실패_참여하고_있는_방이_아닌_경우() throws IOException {
@@ -163,7 +244,7 @@ public class FeedServiceTest {
 
     @Test
     @DisplayName("getFeed_성공")
-    void getFeed_성공() throws IOException{
+    void getFeed_성공() throws IOException, InterruptedException {
         //given
         User user1 = User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER);
         User feedOwner = userRepository.save(user1);
@@ -195,9 +276,10 @@ public class FeedServiceTest {
 
         List<Feed> feeds = feedRepository.findAll();
         Long feedId = feeds.get(0).getId();
+        FeedImage feedImage = waitForPreview();
 
         //when
-        GetFeedResponse getFeedResponse = feedService.getFeed(feedOwner.getEmail(), feedId);
+        GetFeedResponse getFeedResponse = feedService.getFeed(feedOwner.getId(), feedId);
 
         //then
         List<FeedImage> findImages = feedImageRepository.findAll();
@@ -208,7 +290,8 @@ public class FeedServiceTest {
                 () -> assertEquals(getFeedResponse.getTitle(), "제목"),
                 () -> assertEquals(getFeedResponse.getContent(), "내용"),
                 () -> assertThat(findImages).hasSize(1),
-                () -> assertEquals(getFeedResponse.getImageUrls().get(0), findImages.get(0).getImageUrl())
+                () -> assertThat(feedImage.getPreviewUrl()).endsWith("_preview.jpg"),
+                () -> assertEquals(feedImage.getPreviewUrl(), getFeedResponse.getImageUrls().get(0))
         );
     }
 
@@ -267,8 +350,8 @@ public class FeedServiceTest {
         //then
         assertAll(
 
-                () -> assertThrows(NotFoundException.class, () -> feedService.getFeed(feedOwner.getEmail(), feedId)),
-                () -> assertThrows(NotFoundException.class, () -> feedService.getFeed(notFeedOwner.getEmail(), feedId))
+                () -> assertThrows(NotFoundException.class, () -> feedService.getFeed(feedOwner.getId(), feedId)),
+                () -> assertThrows(NotFoundException.class, () -> feedService.getFeed(notFeedOwner.getId(), feedId))
         );
     }
 
@@ -312,7 +395,108 @@ public class FeedServiceTest {
         //when
 
         //then
-        assertThrows(ForbiddenException.class, () -> feedService.getFeed(notInRoomUser.getEmail(), feedId));
+        assertThrows(ForbiddenException.class, () -> feedService.getFeed(notInRoomUser.getId(), feedId));
+    }
+
+    @Test
+    @DisplayName("getFeeds_성공_첫_스크롤부터_마지막_스크롤까지")
+    void getFeeds_성공_첫_스크롤부터_마지막_스크롤까지() {
+        //given
+        User user1 = User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER);
+        User feedOwner = userRepository.save(user1);
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomService.createRoom(feedOwner.getEmail(), createRoomRequestDto);
+        Optional<Room> room = roomRepository.findByOwnerUser(feedOwner);
+
+        Feed feed1 = feedRepository.save(Feed.of(room.get(), feedOwner, "제목1", "내용1"));
+        Feed feed2 = feedRepository.save(Feed.of(room.get(), feedOwner, "제목2", "내용2"));
+        Feed feed3 = feedRepository.save(Feed.of(room.get(), feedOwner, "제목3", "내용3"));
+        feedsCountScheduler.reconcileFeedsCount();
+
+        //when
+        GetFeedsResponse firstScroll = feedService.getFeeds(feedOwner.getId(), room.get().getId(), 2, null);
+        GetFeedsResponse lastScroll = feedService.getFeeds(feedOwner.getId(), room.get().getId(), 2, firstScroll.getNextCursor());
+
+        //then
+        assertAll(
+                () -> assertThat(firstScroll.getContents()).hasSize(2),
+                () -> assertEquals(firstScroll.getContents().get(0).getFeedId(), feed3.getId()),
+                () -> assertEquals(firstScroll.getContents().get(1).getFeedId(), feed2.getId()),
+                () -> assertEquals(firstScroll.getNextCursor(), feed2.getId()),
+                () -> assertEquals(firstScroll.getTotalElements(), 3L),
+                () -> assertThat(lastScroll.getContents()).hasSize(1),
+                () -> assertEquals(lastScroll.getContents().get(0).getFeedId(), feed1.getId()),
+                () -> assertEquals(lastScroll.getNextCursor(), -1L)
+        );
+    }
+
+    @Test
+    @DisplayName("getFeedsETag_실패_참여중인_방이_아닌_경우")
+    void getFeedsETag_실패_참여중인_방이_아닌_경우() {
+        //given
+        User feedOwner = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임1", null, UserRole.ROLE_USER));
+        User notInRoomUser = userRepository.save(User.of("user2@gmail.com", "password2", "닉네임2", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomService.createRoom(feedOwner.getEmail(), createRoomRequestDto);
+        Room room = roomRepository.findByOwnerUser(feedOwner).get();
+
+        //when
+        String eTag = feedService.getFeedsETag(feedOwner.getId(), room.getId());
+
+        //then
+        assertAll(
+                () -> assertThat(eTag).startsWith("feeds-" + room.getId()),
+                () -> assertThrows(ForbiddenException.class, () -> feedService.getFeedsETag(notInRoomUser.getId(), room.getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("getHomeFeeds_성공_참여중인_방들의_피드를_최신순으로_병합")
+    void getHomeFeeds_성공_참여중인_방들의_피드를_최신순으로_병합() {
+        //given
+        User user1 = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임1", null, UserRole.ROLE_USER));
+        User user2 = userRepository.save(User.of("user2@gmail.com", "password2", "닉네임2", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomService.createRoom(user1.getEmail(), createRoomRequestDto);
+        roomService.createRoom(user2.getEmail(), createRoomRequestDto);
+        Room room1 = roomRepository.findByOwnerUser(user1).get();
+        Room room2 = roomRepository.findByOwnerUser(user2).get();
+        participateRepository.save(Participate.of(room2, user1));
+
+        Feed feed1 = feedRepository.save(Feed.of(room1, user1, "제목1", "내용1"));
+        Feed feed2 = feedRepository.save(Feed.of(room2, user2, "제목2", "내용2"));
+        Feed feed3 = feedRepository.save(Feed.of(room2, user2, "제목3", "내용3"));
+        Feed feed4 = feedRepository.save(Feed.of(room1, user1, "제목4", "내용4"));
+        feedsCountScheduler.reconcileFeedsCount();
+
+        //when
+        GetFeedsResponse firstScroll = feedService.getHomeFeeds(user1.getId(), 3, null);
+        GetFeedsResponse lastScroll = feedService.getHomeFeeds(user1.getId(), 3, firstScroll.getNextCursor());
+        GetFeedsResponse otherUserScroll = feedService.getHomeFeeds(user2.getId(), 3, null);
+
+        //then
+        assertAll(
+                () -> assertThat(firstScroll.getContents()).extracting("feedId").containsExactly(feed4.getId(), feed3.getId(), feed2.getId()),
+                () -> assertThat(firstScroll.getContents()).extracting("roomId").containsExactly(room1.getId(), room2.getId(), room2.getId()),
+                () -> assertEquals(firstScroll.getNextCursor(), feed2.getId()),
+                () -> assertEquals(firstScroll.getTotalElements(), 4L),
+                () -> assertThat(lastScroll.getContents()).extracting("feedId").containsExactly(feed1.getId()),
+                () -> assertEquals(lastScroll.getNextCursor(), -1L),
+                () -> assertThat(otherUserScroll.getContents()).extracting("feedId").containsExactly(feed3.getId(), feed2.getId()),
+                () -> assertEquals(otherUserScroll.getTotalElements(), 2L)
+        );
     }
 
     @Test
@@ -636,6 +820,18 @@ public class FeedServiceTest {
         assertThrows(ForbiddenException.class, () -> feedService.deleteFeed(notFeedOwner.getEmail(), deleteFeedRequestDto));
     }
 
+    // 미리보기 이미지는 이미지 처리 스레드 풀에서 비동기로 만들어지므로 기록될 때까지 기다림
+    private FeedImage waitForPreview() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<FeedImage> feedImages = feedImageRepository.findAll();
+            if (!feedImages.isEmpty() && feedImages.get(0).getPreviewUrl() != null) {
+                return feedImages.get(0);
+            }
+            Thread.sleep(100);
+        }
+        return fail("미리보기 이미지가 만들어지지 않았습니다.");
+    }
+
     private MockMultipartFile getMockMultipartFile(String fileName, String contentType, String path) throws IOException {
         FileInputStream fileInputStream = new FileInputStream(new File(path));
         return new MockMultipartFile(fileName, fileName + "." + contentType, contentType, fileInputStream);
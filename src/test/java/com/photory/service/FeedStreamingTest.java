@@ -0,0 +1,372 @@
+package com.photory.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.*;
+import com.photory.common.exception.model.ForbiddenException;
+import com.photory.common.exception.model.NotFoundException;
+import com.photory.common.exception.model.ValidationException;
+import com.photory.controller.room.dto.request.CreateRoomRequestDto;
+import com.photory.domain.feed.repository.FeedRepository;
+import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.repository.FeedImageRepository;
+import com.photory.domain.imagedeletion.ImageDeletion;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import com.photory.domain.imageobject.repository.ImageObjectRepository;
+import com.photory.domain.participate.repository.ParticipateRepository;
+import com.photory.domain.room.repository.RoomRepository;
+import com.photory.domain.user.User;
+import com.photory.domain.user.UserRole;
+import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.feed.FeedService;
+import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileUploadException;
+import org.apache.commons.fileupload.servlet.ServletFileUpload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * POST /v1/feed/stream (createFeedStreaming, S3Service.uploadStream)
+ * S3 클라이언트를 대신해서 한 번에 업로드하는 경우와 multipart upload 로 나누어 올리는 경우를 확인
+ */
+@SpringBootTest
+public class FeedStreamingTest {
+
+    private static final String BOUNDARY = "photory-boundary";
+    private static final String BUCKET_URL = "https://photory.s3.ap-northeast-2.amazonaws.com/";
+    private static final String UPLOAD_ID = "upload-id";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ParticipateRepository participateRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @SpyBean
+    private FeedImageRepository feedImageRepository;
+
+    @Autowired
+    private ImageObjectRepository imageObjectRepository;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @MockBean
+    private AmazonS3Client amazonS3;
+
+    private User user;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        when(amazonS3.getUrl(anyString(), anyString()))
+                .thenAnswer(invocation -> new URL(BUCKET_URL + invocation.getArgument(1)));
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)))
+                .thenAnswer(invocation -> {
+                    InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+                    result.setUploadId(UPLOAD_ID);
+                    return result;
+                });
+        when(amazonS3.uploadPart(any(UploadPartRequest.class)))
+                .thenAnswer(invocation -> uploadPartResult(invocation.getArgument(0)));
+
+        user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomId = roomService.createRoom(user.getEmail(), createRoomRequestDto).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
+        roomRepository.deleteAllInBatch();
+        participateRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+        feedImageRepository.deleteAllInBatch();
+        imageObjectRepository.deleteAllInBatch();
+        imageDeletionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_성공_파트_크기보다_작은_이미지는_한_번에_업로드")
+    void createFeedStreaming_성공_파트_크기보다_작은_이미지는_한_번에_업로드() throws IOException, FileUploadException {
+        //given
+        byte[] image = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", image));
+
+        //when
+        feedService.createFeedStreaming(user.getEmail(), parts);
+
+        //then
+        ArgumentCaptor<PutObjectRequest> putObjectRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3, times(1)).putObject(putObjectRequest.capture());
+        List<FeedImage> feedImages = feedImageRepository.findAll();
+        assertAll(
+                () -> assertEquals(image.length, putObjectRequest.getValue().getMetadata().getContentLength()),
+                () -> assertEquals("image/png", putObjectRequest.getValue().getMetadata().getContentType()),
+                () -> verify(amazonS3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class)),
+                () -> assertEquals("제목", feedRepository.findAll().get(0).getTitle()),
+                () -> assertThat(feedImages).hasSize(1),
+                () -> assertEquals(BUCKET_URL + putObjectRequest.getValue().getKey(), feedImages.get(0).getImageUrl())
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_성공_파트_크기보다_큰_이미지는_multipart_upload_로_나누어_업로드")
+    void createFeedStreaming_성공_파트_크기보다_큰_이미지는_multipart_upload_로_나누어_업로드() throws IOException, FileUploadException {
+        //given
+        byte[] image = randomBytes(PART_SIZE + 1024 * 1024);
+        when(amazonS3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(new CompleteMultipartUploadResult());
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("large.png", image));
+
+        //when
+        feedService.createFeedStreaming(user.getEmail(), parts);
+
+        //then
+        ArgumentCaptor<UploadPartRequest> uploadPartRequests = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(2)).uploadPart(uploadPartRequests.capture());
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(completeRequest.capture());
+        assertAll(
+                () -> assertThat(uploadPartRequests.getAllValues()).extracting(UploadPartRequest::getPartSize)
+                        .containsExactly((long) PART_SIZE, (long) image.length - PART_SIZE),
+                () -> assertThat(completeRequest.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2),
+                () -> verify(amazonS3, never()).putObject(any(PutObjectRequest.class)),
+                () -> verify(amazonS3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class)),
+                () -> assertThat(feedImageRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_실패_multipart_upload_가_중단되면_업로드를_취소하고_올린_파일을_정리")
+    void createFeedStreaming_실패_multipart_upload_가_중단되면_업로드를_취소하고_올린_파일을_정리() throws IOException, FileUploadException {
+        //given
+        byte[] smallImage = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        byte[] largeImage = randomBytes(PART_SIZE + 1024 * 1024);
+        // 첫 파트는 올라가고 두 번째 파트에서 연결이 끊어짐
+        doAnswer(invocation -> uploadPartResult(invocation.getArgument(0)))
+                .doThrow(new SdkClientException("연결이 끊어졌습니다."))
+                .when(amazonS3).uploadPart(any(UploadPartRequest.class));
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", smallImage),
+                image("large.png", largeImage));
+
+        //when
+        assertThrows(SdkClientException.class, () -> feedService.createFeedStreaming(user.getEmail(), parts));
+
+        //then
+        ArgumentCaptor<PutObjectRequest> putObjectRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(putObjectRequest.capture());
+        ArgumentCaptor<AbortMultipartUploadRequest> abortRequest = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(amazonS3).abortMultipartUpload(abortRequest.capture());
+        assertAll(
+                () -> assertEquals(UPLOAD_ID, abortRequest.getValue().getUploadId()),
+                () -> verify(amazonS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class)),
+                // 먼저 올라간 이미지는 삭제 대기 목록으로
+                () -> assertThat(imageDeletionRepository.findAll()).extracting(ImageDeletion::getImageUrl)
+                        .contains(BUCKET_URL + putObjectRequest.getValue().getKey()),
+                () -> assertThat(feedRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_실패_피드를_저장하지_못하면_되돌리고_올린_파일을_정리")
+    void createFeedStreaming_실패_피드를_저장하지_못하면_되돌리고_올린_파일을_정리() throws IOException, FileUploadException {
+        //given
+        byte[] image = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        doThrow(new DataIntegrityViolationException("이미지를 저장하지 못했습니다."))
+                .when(feedImageRepository).saveAll(anyIterable());
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", image));
+
+        //when
+        assertThrows(DataIntegrityViolationException.class, () -> feedService.createFeedStreaming(user.getEmail(), parts));
+
+        //then
+        ArgumentCaptor<PutObjectRequest> putObjectRequest = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(putObjectRequest.capture());
+        assertAll(
+                () -> assertThat(feedRepository.findAll()).isEmpty(),
+                () -> assertEquals(0, roomRepository.findById(roomId).get().getFeedsCount()),
+                // 참조하는 피드가 없으므로 올린 이미지는 삭제 대기 목록으로
+                () -> assertThat(imageDeletionRepository.findAll()).extracting(ImageDeletion::getImageUrl)
+                        .contains(BUCKET_URL + putObjectRequest.getValue().getKey())
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_실패_필드가_이미지보다_늦게_전달된_경우")
+    void createFeedStreaming_실패_필드가_이미지보다_늦게_전달된_경우() throws IOException, FileUploadException {
+        //given
+        byte[] image = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                image("profile.png", image),
+                field("title", "제목"),
+                field("content", "내용"));
+
+        //when
+        assertThrows(ValidationException.class, () -> feedService.createFeedStreaming(user.getEmail(), parts));
+
+        //then
+        assertAll(
+                () -> verify(amazonS3, never()).putObject(any(PutObjectRequest.class)),
+                () -> assertThat(feedRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_실패_잘못된_방_id_인_경우")
+    void createFeedStreaming_실패_잘못된_방_id_인_경우() throws IOException, FileUploadException {
+        //given
+        byte[] image = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        FileItemIterator wrongTypeParts = multipart(
+                field("roomId", "room"),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", image));
+        FileItemIterator notFoundParts = multipart(
+                field("roomId", String.valueOf(roomId + 1)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", image));
+
+        //when, then
+        assertAll(
+                () -> assertThrows(ValidationException.class, () -> feedService.createFeedStreaming(user.getEmail(), wrongTypeParts)),
+                () -> assertThrows(NotFoundException.class, () -> feedService.createFeedStreaming(user.getEmail(), notFoundParts)),
+                () -> verify(amazonS3, never()).putObject(any(PutObjectRequest.class)),
+                () -> assertThat(feedRepository.findAll()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("createFeedStreaming_실패_참여하고_있는_방이_아닌_경우")
+    void createFeedStreaming_실패_참여하고_있는_방이_아닌_경우() throws IOException, FileUploadException {
+        //given
+        User notInRoomUser = userRepository.save(User.of("user2@gmail.com", "password2", "닉네임2", null, UserRole.ROLE_USER));
+        byte[] image = Files.readAllBytes(Paths.get("src/test/resources/image/profile.png"));
+        FileItemIterator parts = multipart(
+                field("roomId", String.valueOf(roomId)),
+                field("title", "제목"),
+                field("content", "내용"),
+                image("profile.png", image));
+
+        //when
+        assertThrows(ForbiddenException.class, () -> feedService.createFeedStreaming(notInRoomUser.getEmail(), parts));
+
+        //then
+        assertAll(
+                () -> verify(amazonS3, never()).putObject(any(PutObjectRequest.class)),
+                () -> assertThat(feedRepository.findAll()).isEmpty()
+        );
+    }
+
+    private FileItemIterator multipart(byte[]... parts) throws IOException, FileUploadException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            body.writeBytes(part);
+        }
+        body.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/feed/stream");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body.toByteArray());
+        return new ServletFileUpload().getItemIterator(request);
+    }
+
+    private byte[] field(String name, String value) {
+        return ("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] image(String fileName, byte[] content) {
+        ByteArrayOutputStream part = new ByteArrayOutputStream();
+        part.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"images\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        part.writeBytes(content);
+        part.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+        return part.toByteArray();
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+
+    private UploadPartResult uploadPartResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("etag-" + request.getPartNumber());
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.photory.service;
+
+import com.photory.controller.room.dto.request.CreateRoomRequestDto;
+import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.repository.FeedRepository;
+import com.photory.domain.participate.repository.ParticipateRepository;
+import com.photory.domain.room.Room;
+import com.photory.domain.room.repository.RoomRepository;
+import com.photory.domain.user.User;
+import com.photory.domain.user.UserRole;
+import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.feed.FeedsCountScheduler;
+import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 방 하나씩 나누어 보정되도록 배치 크기를 줄임
+@SpringBootTest(properties = "scheduler.feeds-count.batch-size=1")
+public class FeedsCountSchedulerTest {
+
+    @Autowired
+    private FeedsCountScheduler feedsCountScheduler;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ParticipateRepository participateRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
+        roomRepository.deleteAllInBatch();
+        participateRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("reconcileFeedsCount_성공_개수가_다른_방만_보정하고_피드_버전을_올림")
+    void reconcileFeedsCount_성공_개수가_다른_방만_보정하고_피드_버전을_올림() {
+        //given
+        User user1 = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임1", null, UserRole.ROLE_USER));
+        User user2 = userRepository.save(User.of("user2@gmail.com", "password2", "닉네임2", null, UserRole.ROLE_USER));
+        Room staleRoom = createRoom(user1);
+        Room emptyRoom = createRoom(user2);
+
+        // 개수 증가 쿼리를 거치지 않고 피드를 저장해서 개수를 어긋나게 함
+        feedRepository.save(Feed.of(staleRoom, user1, "제목1", "내용1"));
+        Feed latestFeed = feedRepository.save(Feed.of(staleRoom, user1, "제목2", "내용2"));
+
+        //when
+        feedsCountScheduler.reconcileFeedsCount();
+
+        //then
+        Room reconciledStaleRoom = roomRepository.findById(staleRoom.getId()).get();
+        Room reconciledEmptyRoom = roomRepository.findById(emptyRoom.getId()).get();
+        assertAll(
+                () -> assertEquals(2L, reconciledStaleRoom.getFeedsCount()),
+                () -> assertEquals(latestFeed.getId(), reconciledStaleRoom.getLatestFeedId()),
+                () -> assertEquals(staleRoom.getFeedsVersion() + 1, reconciledStaleRoom.getFeedsVersion()),
+                () -> assertEquals(0L, reconciledEmptyRoom.getFeedsCount()),
+                () -> assertNull(reconciledEmptyRoom.getLatestFeedId()),
+                () -> assertEquals(emptyRoom.getFeedsVersion(), reconciledEmptyRoom.getFeedsVersion())
+        );
+    }
+
+    private Room createRoom(User user) {
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        return roomRepository.findById(roomService.createRoom(user.getEmail(), createRoomRequestDto).getId()).get();
+    }
+}
@@ -0,0 +1,135 @@
+package com.photory.service;
+
+import com.photory.common.util.RedisUtil;
+import com.photory.domain.imagedeletion.ImageDeletion;
+import com.photory.domain.imagedeletion.repository.ImageDeletionRepository;
+import com.photory.service.image.ImageDeletionScheduler;
+import com.photory.service.image.S3Service;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 테스트 중에는 스케줄러가 스스로 실행되지 않도록 실행 간격을 늘림
+@SpringBootTest(properties = {
+        "scheduler.image-deletion.initial-delay=3600000",
+        "scheduler.image-deletion.fixed-delay=3600000"
+})
+public class ImageDeletionSchedulerTest {
+
+    private static final String LOCK_KEY = "image:deletion:lock";
+    private static final String IMAGE_URL_1 = "https://photory.s3.ap-northeast-2.amazonaws.com/image1.png";
+    private static final String IMAGE_URL_2 = "https://photory.s3.ap-northeast-2.amazonaws.com/image2.png";
+
+    @Autowired
+    private ImageDeletionScheduler imageDeletionScheduler;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @MockBean
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        when(s3Service.getFileName(IMAGE_URL_1)).thenReturn("image1.png");
+        when(s3Service.getFileName(IMAGE_URL_2)).thenReturn("image2.png");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        imageDeletionRepository.deleteAllInBatch();
+        redisUtil.deleteData(LOCK_KEY);
+    }
+
+    @Test
+    @DisplayName("deleteImages_성공_삭제한_파일은_대기_목록에서_제외")
+    void deleteImages_성공_삭제한_파일은_대기_목록에서_제외() {
+        //given
+        imageDeletionRepository.save(ImageDeletion.of(IMAGE_URL_1));
+        imageDeletionRepository.save(ImageDeletion.of(IMAGE_URL_2));
+        when(s3Service.deleteFiles(anyList())).thenReturn(List.of());
+
+        //when
+        imageDeletionScheduler.deleteImages();
+
+        //then
+        assertAll(
+                () -> verify(s3Service).deleteFiles(argThat(fileNames ->
+                        fileNames.size() == 2 && fileNames.containsAll(List.of("image1.png", "image2.png")))),
+                () -> assertThat(imageDeletionRepository.findAll()).isEmpty(),
+                () -> assertFalse(redisUtil.existKey(LOCK_KEY))
+        );
+    }
+
+    @Test
+    @DisplayName("deleteImages_성공_삭제에_실패한_파일만_재시도_횟수를_늘려서_남김")
+    void deleteImages_성공_삭제에_실패한_파일만_재시도_횟수를_늘려서_남김() {
+        //given
+        imageDeletionRepository.save(ImageDeletion.of(IMAGE_URL_1));
+        imageDeletionRepository.save(ImageDeletion.of(IMAGE_URL_2));
+        when(s3Service.deleteFiles(anyList())).thenReturn(List.of("image2.png"));
+
+        //when
+        imageDeletionScheduler.deleteImages();
+
+        //then
+        List<ImageDeletion> remaining = imageDeletionRepository.findAll();
+        assertAll(
+                () -> assertThat(remaining).hasSize(1),
+                () -> assertEquals(IMAGE_URL_2, remaining.get(0).getImageUrl()),
+                () -> assertEquals(1, remaining.get(0).getRetryCount())
+        );
+    }
+
+    @Test
+    @DisplayName("deleteImages_성공_최대_횟수만큼_실패한_파일은_대기_목록에서_제외")
+    void deleteImages_성공_최대_횟수만큼_실패한_파일은_대기_목록에서_제외() {
+        //given
+        imageDeletionRepository.save(ImageDeletion.builder()
+                .imageUrl(IMAGE_URL_1)
+                .retryCount(4)
+                .build());
+        when(s3Service.deleteFiles(anyList())).thenReturn(List.of("image1.png"));
+
+        //when
+        imageDeletionScheduler.deleteImages();
+
+        //then
+        assertThat(imageDeletionRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteImages_성공_다른_서버가_처리_중이면_건너뜀")
+    void deleteImages_성공_다른_서버가_처리_중이면_건너뜀() {
+        //given
+        imageDeletionRepository.save(ImageDeletion.of(IMAGE_URL_1));
+        redisUtil.setDataExpire(LOCK_KEY, "other-server", 60L);
+
+        //when
+        imageDeletionScheduler.deleteImages();
+
+        //then
+        assertAll(
+                () -> verify(s3Service, never()).deleteFiles(anyList()),
+                () -> assertThat(imageDeletionRepository.findAll()).hasSize(1),
+                () -> assertEquals("other-server", redisUtil.getData(LOCK_KEY))
+        );
+    }
+}
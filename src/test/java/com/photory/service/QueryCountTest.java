@@ -0,0 +1,260 @@
+package com.photory.service;
+
+import com.photory.controller.feed.dto.response.GetFeedsResponse;
+import com.photory.controller.room.dto.request.CreateRoomRequestDto;
+import com.photory.controller.room.dto.response.CreateRoomResponse;
+import com.photory.controller.room.dto.response.GetRoomsResponse;
+import com.photory.domain.feed.Feed;
+import com.photory.domain.feed.repository.FeedRepository;
+import com.photory.domain.feedimage.FeedImage;
+import com.photory.domain.feedimage.repository.FeedImageRepository;
+import com.photory.domain.participate.repository.ParticipateRepository;
+import com.photory.domain.room.Room;
+import com.photory.domain.room.repository.RoomRepository;
+import com.photory.domain.user.User;
+import com.photory.domain.user.UserRole;
+import com.photory.domain.user.repository.UserRepository;
+import com.photory.service.feed.FeedService;
+import com.photory.service.feed.FeedsCountScheduler;
+import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조회 API 별 SQL 실행 횟수 고정 (데이터 수가 늘어도 쿼리 수가 늘지 않아야 함)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class QueryCountTest {
+
+    private static final String IMAGE_URL = "https://photory.s3.ap-northeast-2.amazonaws.com/image.png";
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private FeedsCountScheduler feedsCountScheduler;
+
+    @Autowired
+    private ParticipateRepository participateRepository;
+
+    @Autowired
+    private FeedRepository feedRepository;
+
+    @Autowired
+    private FeedImageRepository feedImageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
+        roomRepository.deleteAllInBatch();
+        participateRepository.deleteAllInBatch();
+        feedRepository.deleteAllInBatch();
+        feedImageRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("getRooms_쿼리수_참여한_방_수와_무관")
+    void getRooms_쿼리수_참여한_방_수와_무관() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        createRoom(user);
+
+        statistics.clear();
+        roomService.getRooms(user.getId());
+        long queryCountWithOneRoom = statistics.getPrepareStatementCount();
+
+        createRoom(user);
+        createRoom(user);
+
+        //when
+        statistics.clear();
+        ArrayList<GetRoomsResponse> rooms = roomService.getRooms(user.getId());
+        long queryCountWithThreeRooms = statistics.getPrepareStatementCount();
+
+        //then
+        assertAll(
+                () -> assertThat(rooms).hasSize(3),
+                () -> assertEquals(rooms.get(0).getOwnerEmail(), user.getEmail()),
+                // 참여 중인 방과 방장 조회 (유저는 토큰의 id 를 사용하므로 조회하지 않음)
+                () -> assertEquals(1L, queryCountWithOneRoom),
+                () -> assertEquals(queryCountWithOneRoom, queryCountWithThreeRooms)
+        );
+    }
+
+    @Test
+    @DisplayName("getRoom_쿼리수")
+    void getRoom_쿼리수() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        CreateRoomResponse room = createRoom(user);
+
+        //when
+        statistics.clear();
+        roomService.getRoom(user.getId(), room.getId());
+
+        //then
+        // 방과 방장 조회 + 참여 여부 확인 + 참여자 목록 조회
+        assertEquals(3L, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("getFeeds_쿼리수_피드_수와_무관")
+    void getFeeds_쿼리수_피드_수와_무관() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        Room room = roomRepository.findById(createRoom(user).getId()).get();
+        saveFeed(room, user);
+
+        statistics.clear();
+        feedService.getFeeds(user.getId(), room.getId(), 10, Long.MAX_VALUE);
+        long queryCountWithOneFeed = statistics.getPrepareStatementCount();
+
+        for (int i = 0; i < 4; i++) {
+            saveFeed(room, user);
+        }
+
+        //when
+        statistics.clear();
+        feedService.getFeeds(user.getId(), room.getId(), 10, Long.MAX_VALUE);
+        long queryCountWithFiveFeeds = statistics.getPrepareStatementCount();
+
+        //then
+        assertAll(
+                // 방 조회 + 피드 목록 조회 + 이미지 주소 조회
+                () -> assertEquals(3L, queryCountWithOneFeed),
+                () -> assertEquals(queryCountWithOneFeed, queryCountWithFiveFeeds)
+        );
+    }
+
+    @Test
+    @DisplayName("getFeeds_쿼리수_타임라인으로_스크롤하면_피드를_DB_에서_조회하지_않음")
+    void getFeeds_쿼리수_타임라인으로_스크롤하면_피드를_DB_에서_조회하지_않음() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        Room room = roomRepository.findById(createRoom(user).getId()).get();
+        List<Feed> feeds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            feeds.add(saveFeed(room, user));
+        }
+        feedsCountScheduler.reconcileFeedsCount();
+
+        // 첫 스크롤에서 타임라인을 만들고, 끝까지 한 번 스크롤해서 피드 목록 캐시를 채움
+        GetFeedsResponse firstScroll = feedService.getFeeds(user.getId(), room.getId(), 2, null);
+        GetFeedsResponse warmUpScroll = feedService.getFeeds(user.getId(), room.getId(), 2, firstScroll.getNextCursor());
+        feedService.getFeeds(user.getId(), room.getId(), 2, warmUpScroll.getNextCursor());
+
+        //when
+        statistics.clear();
+        GetFeedsResponse secondScroll = feedService.getFeeds(user.getId(), room.getId(), 2, firstScroll.getNextCursor());
+        GetFeedsResponse lastScroll = feedService.getFeeds(user.getId(), room.getId(), 2, secondScroll.getNextCursor());
+
+        //then
+        assertAll(
+                () -> assertEquals(feeds.get(2).getId(), secondScroll.getContents().get(0).getFeedId()),
+                () -> assertEquals(feeds.get(1).getId(), secondScroll.getContents().get(1).getFeedId()),
+                () -> assertThat(secondScroll.getContents().get(0).getImageUrls()).containsExactly(IMAGE_URL, IMAGE_URL),
+                () -> assertEquals(feeds.get(0).getId(), lastScroll.getContents().get(0).getFeedId()),
+                () -> assertEquals(-1L, lastScroll.getNextCursor()),
+                // 스크롤마다 방 조회만 하고 피드, 이미지 주소는 타임라인과 피드 목록 캐시 (Redis) 에서 읽음
+                () -> assertThat(statistics.getQueries()).isEmpty(),
+                () -> assertEquals(2L, statistics.getPrepareStatementCount())
+        );
+    }
+
+    @Test
+    @DisplayName("getFeed_쿼리수")
+    void getFeed_쿼리수() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        Room room = roomRepository.findById(createRoom(user).getId()).get();
+        Feed feed = saveFeed(room, user);
+
+        //when
+        statistics.clear();
+        feedService.getFeed(user.getId(), feed.getId());
+
+        //then
+        // 피드 조회 + 참여 여부 확인 + 이미지 주소 조회
+        assertEquals(3L, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("findUser_쿼리수_캐시된_유저는_다시_조회하지_않음")
+    void findUser_쿼리수_캐시된_유저는_다시_조회하지_않음() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        userCache.findByEmail(user.getEmail());
+
+        //when
+        statistics.clear();
+        Optional<User> cachedByEmail = userCache.findByEmail(user.getEmail());
+        Optional<User> cachedById = userCache.findById(user.getId());
+        long queryCountWhenCached = statistics.getPrepareStatementCount();
+
+        userCache.evict(user);
+        statistics.clear();
+        userCache.findByEmail(user.getEmail());
+        long queryCountAfterEvict = statistics.getPrepareStatementCount();
+
+        //then
+        assertAll(
+                () -> assertEquals(user.getId(), cachedByEmail.get().getId()),
+                () -> assertEquals(user.getId(), cachedById.get().getId()),
+                () -> assertEquals(0L, queryCountWhenCached),
+                () -> assertEquals(1L, queryCountAfterEvict)
+        );
+    }
+
+    private CreateRoomResponse createRoom(User user) {
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        return roomService.createRoom(user.getEmail(), createRoomRequestDto);
+    }
+
+    private Feed saveFeed(Room room, User user) {
+        Feed feed = feedRepository.save(Feed.of(room, user, "제목", "내용"));
+        feedImageRepository.save(FeedImage.of(feed, IMAGE_URL));
+        feedImageRepository.save(FeedImage.of(feed, IMAGE_URL));
+        return feed;
+    }
+}
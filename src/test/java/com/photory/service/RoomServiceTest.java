@@ -5,7 +5,9 @@ import com.photory.common.exception.model.ForbiddenException;
 import com.photory.common.exception.model.NotFoundException;
 import com.photory.common.exception.model.ValidationException;
 import com.photory.controller.room.dto.request.*;
+import com.photory.controller.room.dto.response.CreateRoomResponse;
 import com.photory.controller.room.dto.response.GetRoomResponse;
+import com.photory.controller.room.dto.response.GetRoomsResponse;
 import com.photory.domain.participate.Participate;
 import com.photory.domain.participate.repository.ParticipateRepository;
 import com.photory.domain.room.Room;
@@ -14,6 +16,7 @@ import com.photory.domain.user.User;
 import com.photory.domain.user.UserRole;
 import com.photory.domain.user.repository.UserRepository;
 import com.photory.service.room.RoomService;
+import com.photory.service.user.UserCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +25,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,6 +46,9 @@ public class RoomServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserCache userCache;
+
     @Autowired
     private RoomRepository roomRepository;
 
@@ -48,6 +61,7 @@ public class RoomServiceTest {
     @AfterEach
     void cleanUp() {
         userRepository.deleteAllInBatch();
+        userCache.invalidateAll();
         roomRepository.deleteAllInBatch();
         participateRepository.deleteAllInBatch();
     }
@@ -80,6 +94,31 @@ public class RoomServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("createRoomTest_성공_방_코드가_겹치지_않음")
+    void createRoomTest_성공_방_코드가_겹치지_않음() {
+        //given
+        User user1 = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        User user2 = userRepository.save(User.of("user2@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        User user3 = userRepository.save(User.of("user3@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+
+        //when
+        String code1 = roomService.createRoom(user1.getEmail(), createRoomRequestDto).getCode();
+        String code2 = roomService.createRoom(user2.getEmail(), createRoomRequestDto).getCode();
+        String code3 = roomService.createRoom(user3.getEmail(), createRoomRequestDto).getCode();
+
+        //then
+        assertAll(
+                () -> assertThat(List.of(code1, code2, code3)).allMatch(code -> code.matches("[0-9A-Z]{8}")),
+                () -> assertThat(List.of(code1, code2, code3)).doesNotHaveDuplicates()
+        );
+    }
+
     @Test
     @DisplayName("joinRoomTest_성공")
     void joinRoomTest_성공() {
@@ -115,6 +154,91 @@ public class RoomServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("joinRoomTest_성공_동시에_참여해도_최대_인원을_넘지_않음")
+    void joinRoomTest_성공_동시에_참여해도_최대_인원을_넘지_않음() throws InterruptedException {
+        //given
+        User roomOwner = userRepository.save(User.of("owner@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            users.add(userRepository.save(User.of(String.format("user%s@gmail.com", i), "password1", "닉네임", null, UserRole.ROLE_USER)));
+        }
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        CreateRoomResponse room = roomService.createRoom(roomOwner.getEmail(), createRoomRequestDto);
+
+        JoinRoomRequestDto joinRoomRequestDto = JoinRoomRequestDto.testBuilder()
+                .code(room.getCode())
+                .password("password1")
+                .build();
+
+        //when
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(users.size(), i -> {
+            try {
+                roomService.joinRoom(users.get(i).getEmail(), joinRoomRequestDto);
+                joined.incrementAndGet();
+            } catch (ForbiddenException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        //then
+        Room joinedRoom = roomRepository.findById(room.getId()).get();
+
+        assertAll(
+                () -> assertEquals(7, joined.get()),
+                () -> assertEquals(13, rejected.get()),
+                () -> assertEquals(8, joinedRoom.getParticipantsCount()),
+                () -> assertThat(participateRepository.findAllByRoom(joinedRoom)).hasSize(8)
+        );
+    }
+
+    @Test
+    @DisplayName("joinRoomTest_성공_같은_유저가_동시에_참여해도_한_번만_참여")
+    void joinRoomTest_성공_같은_유저가_동시에_참여해도_한_번만_참여() throws InterruptedException {
+        //given
+        User roomOwner = userRepository.save(User.of("owner@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        CreateRoomResponse room = roomService.createRoom(roomOwner.getEmail(), createRoomRequestDto);
+
+        JoinRoomRequestDto joinRoomRequestDto = JoinRoomRequestDto.testBuilder()
+                .code(room.getCode())
+                .password("password1")
+                .build();
+
+        //when
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        runConcurrently(10, i -> {
+            try {
+                roomService.joinRoom(user.getEmail(), joinRoomRequestDto);
+                joined.incrementAndGet();
+            } catch (ConflictException e) {
+                conflicted.incrementAndGet();
+            }
+        });
+
+        //then
+        Room joinedRoom = roomRepository.findById(room.getId()).get();
+
+        assertAll(
+                () -> assertEquals(1, joined.get()),
+                () -> assertEquals(9, conflicted.get()),
+                () -> assertEquals(2, joinedRoom.getParticipantsCount()),
+                () -> assertThat(participateRepository.findAllByRoom(joinedRoom)).hasSize(2)
+        );
+    }
+
     @Test
     @DisplayName("joinRoomTest_실패_없는_방_코드")
     void joinRoomTest_실패_없는_방_코드() {
@@ -242,6 +366,48 @@ public class RoomServiceTest {
         assertThrows(ConflictException.class, () -> roomService.joinRoom(roomOwner.getEmail(), joinRoomRequestDto));
     }
 
+    @Test
+    @DisplayName("getRoomsTest_성공_마지막_방_id_이후로_나눠서_조회")
+    void getRoomsTest_성공_마지막_방_id_이후로_나눠서_조회() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        CreateRoomResponse room1 = roomService.createRoom(user.getEmail(), createRoomRequestDto);
+        CreateRoomResponse room2 = roomService.createRoom(user.getEmail(), createRoomRequestDto);
+        CreateRoomResponse room3 = roomService.createRoom(user.getEmail(), createRoomRequestDto);
+
+        //when
+        ArrayList<GetRoomsResponse> firstPage = roomService.getRooms(user.getId(), 2, null);
+        ArrayList<GetRoomsResponse> lastPage = roomService.getRooms(user.getId(), 2, firstPage.get(1).getId());
+
+        //then
+        assertAll(
+                () -> assertThat(firstPage).extracting("id").containsExactly(room3.getId(), room2.getId()),
+                () -> assertEquals(user.getEmail(), firstPage.get(0).getOwnerEmail()),
+                () -> assertEquals(1, firstPage.get(0).getParticipantsCount()),
+                () -> assertThat(lastPage).extracting("id").containsExactly(room1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("getRoomsTest_실패_조회할_방_수가_1_보다_작은_경우")
+    void getRoomsTest_실패_조회할_방_수가_1_보다_작은_경우() {
+        //given
+        User user = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+
+        //when
+
+        //then
+        assertAll(
+                () -> assertThrows(ValidationException.class, () -> roomService.getRooms(user.getId(), 0, null)),
+                () -> assertThrows(ValidationException.class, () -> roomService.getRooms(user.getId(), -1, null))
+        );
+    }
+
     @Test
     @DisplayName("getRoomTest_성공")
     void getRoomTest_성공() {
@@ -266,8 +432,8 @@ public class RoomServiceTest {
         roomService.joinRoom(notOwner.getEmail(), joinRoomRequestDto);
 
         //when
-        GetRoomResponse getRoom1 = roomService.getRoom(roomOwner.getEmail(), room.get().getId());
-        GetRoomResponse getRoom2 = roomService.getRoom(notOwner.getEmail(), room.get().getId());
+        GetRoomResponse getRoom1 = roomService.getRoom(roomOwner.getId(), room.get().getId());
+        GetRoomResponse getRoom2 = roomService.getRoom(notOwner.getId(), room.get().getId());
 
         //then
         ArrayList<Participate> participates = participateRepository.findAllByRoom(room.get());
@@ -305,7 +471,78 @@ public class RoomServiceTest {
         Optional<Room> room = roomRepository.findByOwnerUser(roomOwner);
 
         //then
-        assertThrows(ForbiddenException.class, () -> roomService.getRoom(notOwner.getEmail(), room.get().getId()));
+        assertThrows(ForbiddenException.class, () -> roomService.getRoom(notOwner.getId(), room.get().getId()));
+    }
+
+    @Test
+    @DisplayName("getRoom_실패_방을_나간_뒤에_조회하는_경우")
+    void getRoom_실패_방을_나간_뒤에_조회하는_경우() {
+        //given
+        User roomOwner = userRepository.save(User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+        User participant = userRepository.save(User.of("user2@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER));
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        CreateRoomResponse room = roomService.createRoom(roomOwner.getEmail(), createRoomRequestDto);
+
+        JoinRoomRequestDto joinRoomRequestDto = JoinRoomRequestDto.testBuilder()
+                .code(room.getCode())
+                .password("password1")
+                .build();
+        roomService.joinRoom(participant.getEmail(), joinRoomRequestDto);
+
+        // 참여 중일 때 조회해서 참여 여부가 캐시된 상태
+        roomService.getRoom(participant.getId(), room.getId());
+
+        LeaveRoomRequestDto leaveRoomRequestDto = LeaveRoomRequestDto.testBuilder()
+                .roomId(room.getId())
+                .build();
+
+        //when
+        roomService.leaveRoom(participant.getEmail(), leaveRoomRequestDto);
+
+        //then
+        assertThrows(ForbiddenException.class, () -> roomService.getRoom(participant.getId(), room.getId()));
+    }
+
+    @Test
+    @DisplayName("getRoomETag_성공_참여자가_바뀌면_변경")
+    void getRoomETag_성공_참여자가_바뀌면_변경() {
+        //given
+        User user1 = User.of("user1@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER);
+        User user2 = User.of("user2@gmail.com", "password1", "닉네임", null, UserRole.ROLE_USER);
+        User roomOwner = userRepository.save(user1);
+        User notOwner = userRepository.save(user2);
+
+        CreateRoomRequestDto createRoomRequestDto = CreateRoomRequestDto.testBuilder()
+                .title("room")
+                .password("password1")
+                .build();
+        roomService.createRoom(roomOwner.getEmail(), createRoomRequestDto);
+        Optional<Room> room = roomRepository.findByOwnerUser(roomOwner);
+
+        String roomETag = roomService.getRoomETag(roomOwner.getId(), room.get().getId());
+        String roomsETag = roomService.getRoomsETag(roomOwner.getId());
+
+        JoinRoomRequestDto joinRoomRequestDto = JoinRoomRequestDto.testBuilder()
+                .code(room.get().getCode())
+                .password("password1")
+                .build();
+
+        //when
+        String unchangedRoomETag = roomService.getRoomETag(roomOwner.getId(), room.get().getId());
+        roomService.joinRoom(notOwner.getEmail(), joinRoomRequestDto);
+        String joinedRoomETag = roomService.getRoomETag(roomOwner.getId(), room.get().getId());
+        String joinedRoomsETag = roomService.getRoomsETag(roomOwner.getId());
+
+        //then
+        assertAll(
+                () -> assertEquals(roomETag, unchangedRoomETag),
+                () -> assertNotEquals(roomETag, joinedRoomETag),
+                () -> assertNotEquals(roomsETag, joinedRoomsETag)
+        );
     }
 
     @Test
@@ -788,4 +1025,32 @@ public class RoomServiceTest {
         //then
         assertThrows(ConflictException.class, () -> roomService.delegateOwner(roomOwner.getEmail(), delegateOwnerRequestDto));
     }
+
+    // 모든 요청이 동시에 시작하도록 맞춘 뒤 실행하고 끝날 때까지 기다림
+    private void runConcurrently(int count, IntConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(count);
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.execute(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    task.accept(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+    }
 }
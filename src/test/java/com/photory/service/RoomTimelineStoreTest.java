@@ -0,0 +1,79 @@
+package com.photory.service;
+
+import com.photory.common.util.RedisUtil;
+import com.photory.service.feed.RoomTimelineStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class RoomTimelineStoreTest {
+
+    private static final Long ROOM_ID = 1234L;
+
+    @Autowired
+    private RoomTimelineStore roomTimelineStore;
+
+    @Autowired
+    private RedisUtil redisUtil;
+
+    @AfterEach
+    void cleanUp() {
+        redisUtil.deleteData("timeline:room:" + ROOM_ID);
+        redisUtil.deleteData("timeline:room:" + ROOM_ID + ":seq");
+    }
+
+    @Test
+    @DisplayName("rebuild_성공_DB_에서_읽은_피드_id_로_타임라인을_만듦")
+    void rebuild_성공_DB_에서_읽은_피드_id_로_타임라인을_만듦() {
+        //when
+        boolean rebuilt = roomTimelineStore.rebuild(ROOM_ID, () -> List.of(3L, 2L, 1L));
+
+        //then
+        assertAll(
+                () -> assertTrue(rebuilt),
+                () -> assertEquals(Optional.of(List.of(3L, 2L, 1L)), roomTimelineStore.findFeedIds(ROOM_ID, null, 10, 3, 3L))
+        );
+    }
+
+    @Test
+    @DisplayName("rebuild_실패_DB_를_읽는_동안_피드가_추가되면_다시_만들지_않음")
+    void rebuild_실패_DB_를_읽는_동안_피드가_추가되면_다시_만들지_않음() {
+        //given
+        roomTimelineStore.rebuild(ROOM_ID, () -> List.of(2L, 1L));
+
+        //when
+        boolean rebuilt = roomTimelineStore.rebuild(ROOM_ID, () -> {
+            // DB 를 읽은 뒤 타임라인에 새 피드가 추가된 경우
+            List<Long> feedIds = List.of(2L, 1L);
+            roomTimelineStore.push(ROOM_ID, 3L);
+            return feedIds;
+        });
+
+        //then
+        assertAll(
+                () -> assertFalse(rebuilt),
+                () -> assertEquals(Optional.of(List.of(3L, 2L, 1L)), roomTimelineStore.findFeedIds(ROOM_ID, null, 10, 3, 3L))
+        );
+    }
+
+    @Test
+    @DisplayName("findFeedIds_실패_최신_피드가_방의_최신_피드와_다르면_empty")
+    void findFeedIds_실패_최신_피드가_방의_최신_피드와_다르면_empty() {
+        //given
+        roomTimelineStore.rebuild(ROOM_ID, () -> List.of(3L, 2L, 1L));
+
+        //when
+        Optional<List<Long>> feedIds = roomTimelineStore.findFeedIds(ROOM_ID, null, 10, 3, 4L);
+
+        //then
+        assertTrue(feedIds.isEmpty());
+    }
+}
@@ -0,0 +1,128 @@
+package com.photory.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.photory.common.exception.model.InternalServerException;
+import com.photory.service.image.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3Service.uploadFile 의 병렬 업로드 (s3UploadExecutor)
+ * S3 클라이언트를 대신해서 업로드 순서와 상관없이 요청 순서대로 URL 을 반환하는지, 일부가 실패하면 올린 파일을 정리하는지 확인
+ */
+@SpringBootTest
+public class S3ServiceTest {
+
+    private static final String BUCKET_URL = "https://photory.s3.ap-northeast-2.amazonaws.com/";
+    private static final int FILE_COUNT = 4;
+
+    @Autowired
+    private S3Service s3Service;
+
+    @MockBean
+    private AmazonS3Client amazonS3;
+
+    // 업로드된 파일 이름과 내용
+    private final Map<String, String> uploaded = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(amazonS3.getUrl(anyString(), anyString()))
+                .thenAnswer(invocation -> new URL(BUCKET_URL + invocation.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("uploadFile_성공_먼저_끝난_업로드와_상관없이_요청한_파일_순서대로_URL_을_반환")
+    void uploadFile_성공_먼저_끝난_업로드와_상관없이_요청한_파일_순서대로_URL_을_반환() {
+        //given
+        // 앞의 파일일수록 늦게 끝나도록 업로드를 지연시킴
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            String content = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            int index = Integer.parseInt(content.substring("image".length()));
+            Thread.sleep((FILE_COUNT - index) * 100L);
+            uploaded.put(request.getKey(), content);
+            return new PutObjectResult();
+        });
+
+        //when
+        List<String> urls = s3Service.uploadFile(files());
+
+        //then
+        List<String> contents = urls.stream()
+                .map(url -> uploaded.get(url.substring(BUCKET_URL.length())))
+                .collect(Collectors.toList());
+        assertAll(
+                () -> assertThat(urls).hasSize(FILE_COUNT),
+                () -> assertThat(contents).containsExactly("image0", "image1", "image2", "image3")
+        );
+    }
+
+    @Test
+    @DisplayName("uploadFile_실패_업로드_하나가_실패하면_올린_파일을_모두_삭제")
+    void uploadFile_실패_업로드_하나가_실패하면_올린_파일을_모두_삭제() {
+        //given
+        // 마지막 파일만 실패하고 나머지는 먼저 올라가도록 함
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            String content = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (content.equals("image" + (FILE_COUNT - 1))) {
+                Thread.sleep(200L);
+                throw new SdkClientException("upload failed");
+            }
+            uploaded.put(request.getKey(), content);
+            return new PutObjectResult();
+        });
+
+        //when
+        assertThrows(InternalServerException.class, () -> s3Service.uploadFile(files()));
+
+        //then
+        ArgumentCaptor<DeleteObjectRequest> deleteObjectRequests = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(amazonS3, atLeastOnce()).deleteObject(deleteObjectRequests.capture());
+        Set<String> deletedKeys = deleteObjectRequests.getAllValues().stream()
+                .map(DeleteObjectRequest::getKey)
+                .collect(Collectors.toSet());
+        assertAll(
+                () -> assertThat(uploaded).hasSize(FILE_COUNT - 1),
+                () -> assertEquals(uploaded.keySet(), deletedKeys)
+        );
+    }
+
+    private List<MultipartFile> files() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < FILE_COUNT; i++) {
+            files.add(new MockMultipartFile("images", "image" + i + ".png", "image/png",
+                    ("image" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return files;
+    }
+}